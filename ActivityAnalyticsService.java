@@ -0,0 +1,120 @@
+package com.habittracker.service;
+
+import com.habittracker.model.ActivityDictionary;
+import com.habittracker.model.ActivityImpact;
+import com.habittracker.model.ColumnarMoodList;
+import com.habittracker.model.MoodEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Agregat per aktivitas (jumlah entry, total mood) dan matriks co-occurrence,
+ * diperbarui setiap kali entry mood ditambahkan. Array diindeks dengan id
+ * dari ActivityDictionary.
+ */
+public class ActivityAnalyticsService {
+    private int entryCount;
+    private long moodSum;
+    private int[] activityCounts = new int[16];
+    private long[] activityMoodSums = new long[16];
+    // coOccurrence[a][b] = jumlah entry yang memuat aktivitas a dan b (simetris)
+    private int[][] coOccurrence = new int[16][16];
+
+    /**
+     * Membangun ulang semua agregat dalam satu kali lintasan
+     */
+    public synchronized void rebuild(List<MoodEntry> entries) {
+        entryCount = 0;
+        moodSum = 0;
+        Arrays.fill(activityCounts, 0);
+        Arrays.fill(activityMoodSums, 0);
+        for (int[] row : coOccurrence) Arrays.fill(row, 0);
+        DataPassCounter.record();
+        for (int i = 0; i < entries.size(); i++) {
+            add(ColumnarMoodList.moodValue(entries, i), ColumnarMoodList.activityBits(entries, i));
+        }
+    }
+
+    public synchronized void entryAdded(MoodEntry entry) {
+        add(entry.getMood().getValue(), entry.getActivityBits());
+    }
+
+    private void add(int mood, long[] activityBits) {
+        entryCount++;
+        moodSum += mood;
+
+        int[] ids = toIds(activityBits);
+        if (ids.length > 0) ensureCapacity(ids[ids.length - 1] + 1);
+        for (int i = 0; i < ids.length; i++) {
+            activityCounts[ids[i]]++;
+            activityMoodSums[ids[i]] += mood;
+            for (int j = i + 1; j < ids.length; j++) {
+                coOccurrence[ids[i]][ids[j]]++;
+                coOccurrence[ids[j]][ids[i]]++;
+            }
+        }
+    }
+
+    /**
+     * Aktivitas yang pernah dicatat, diurutkan dari rata-rata mood tertinggi
+     */
+    public synchronized List<ActivityImpact> getImpacts() {
+        double overallAverage = entryCount > 0 ? (double) moodSum / entryCount : 0.0;
+        ActivityDictionary dictionary = ActivityDictionary.getInstance();
+        List<ActivityImpact> impacts = new ArrayList<>();
+        for (int id = 0; id < activityCounts.length; id++) {
+            int count = activityCounts[id];
+            if (count == 0) continue;
+            impacts.add(new ActivityImpact(dictionary.nameOf(id), count,
+                    (double) activityMoodSums[id] / count, overallAverage));
+        }
+        impacts.sort(Comparator.comparingDouble(ActivityImpact::getAverageMood).reversed()
+                .thenComparing(Comparator.comparingInt(ActivityImpact::getEntryCount).reversed()));
+        return impacts;
+    }
+
+    /**
+     * Jumlah entry yang memuat kedua aktivitas sekaligus
+     */
+    public synchronized int getCoOccurrence(String first, String second) {
+        ActivityDictionary dictionary = ActivityDictionary.getInstance();
+        int a = dictionary.idOf(first);
+        int b = dictionary.idOf(second);
+        if (a < 0 || b < 0 || a >= coOccurrence.length || b >= coOccurrence.length) return 0;
+        return a == b ? activityCounts[a] : coOccurrence[a][b];
+    }
+
+    public synchronized int getActivityCount(String activity) {
+        int id = ActivityDictionary.getInstance().idOf(activity);
+        return id >= 0 && id < activityCounts.length ? activityCounts[id] : 0;
+    }
+
+    private static int[] toIds(long[] bits) {
+        int count = 0;
+        for (long word : bits) count += Long.bitCount(word);
+        int[] ids = new int[count];
+        int index = 0;
+        for (int word = 0; word < bits.length; word++) {
+            long remaining = bits[word];
+            while (remaining != 0) {
+                ids[index++] = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+            }
+        }
+        return ids;
+    }
+
+    private void ensureCapacity(int size) {
+        if (size <= activityCounts.length) return;
+        int newSize = Math.max(size, activityCounts.length * 2);
+        activityCounts = Arrays.copyOf(activityCounts, newSize);
+        activityMoodSums = Arrays.copyOf(activityMoodSums, newSize);
+        int[][] grown = new int[newSize][newSize];
+        for (int i = 0; i < coOccurrence.length; i++) {
+            System.arraycopy(coOccurrence[i], 0, grown[i], 0, coOccurrence[i].length);
+        }
+        coOccurrence = grown;
+    }
+}
\ No newline at end of file
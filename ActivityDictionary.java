@@ -0,0 +1,85 @@
+package com.habittracker.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kamus aktivitas bersama: setiap nama aktivitas (bawaan maupun custom) dipetakan
+ * ke id int kecil yang dipakai sebagai posisi bit di MoodEntry. Id hanya berlaku
+ * selama aplikasi berjalan; di file tetap disimpan nama aktivitas.
+ */
+public final class ActivityDictionary {
+    private static final String[][] DEFAULT_ACTIVITIES = {
+            {"Exercise", "🏃"}, {"Read", "📚"}, {"Meditate", "🧘"}, {"Work", "💼"},
+            {"Socialize", "👥"}, {"Gaming", "🎮"}, {"Cooking", "🍳"}, {"Shopping", "🛒"},
+            {"Study", "📖"}, {"Music", "🎵"}, {"Movies", "🎬"}, {"Walk", "🚶"}
+    };
+    private static final String CUSTOM_ICON = "✨";
+    // Harus dideklarasikan setelah konstanta di atas (urutan inisialisasi static)
+    private static final ActivityDictionary INSTANCE = new ActivityDictionary();
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, String> icons = new HashMap<>();
+    private final List<String> defaultActivities = new ArrayList<>();
+
+    private ActivityDictionary() {
+        for (String[] activity : DEFAULT_ACTIVITIES) {
+            intern(activity[0]);
+            icons.put(activity[0], activity[1]);
+            defaultActivities.add(activity[0]);
+        }
+    }
+
+    public static ActivityDictionary getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Id untuk nama aktivitas; nama baru didaftarkan dengan id berikutnya
+     */
+    public synchronized int intern(String name) {
+        String key = name.trim();
+        Integer id = ids.get(key);
+        if (id != null) return id;
+
+        int newId = names.size();
+        ids.put(key, newId);
+        names.add(key);
+        return newId;
+    }
+
+    /**
+     * Id untuk nama aktivitas, -1 jika belum pernah didaftarkan
+     */
+    public synchronized int idOf(String name) {
+        Integer id = ids.get(name.trim());
+        return id != null ? id : -1;
+    }
+
+    public synchronized String nameOf(int id) {
+        return names.get(id);
+    }
+
+    public synchronized int size() {
+        return names.size();
+    }
+
+    public synchronized String getIcon(String name) {
+        return icons.getOrDefault(name, CUSTOM_ICON);
+    }
+
+    /**
+     * Label untuk UI, misalnya "🏃 Exercise"
+     */
+    public String getLabel(String name) {
+        return getIcon(name) + " " + name;
+    }
+
+    public List<String> getDefaultActivities() {
+        return Collections.unmodifiableList(defaultActivities);
+    }
+}
\ No newline at end of file
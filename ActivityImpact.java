@@ -0,0 +1,25 @@
+package com.habittracker.model;
+
+/**
+ * Dampak satu aktivitas terhadap mood: berapa kali dicatat dan rata-rata mood
+ * pada entry yang memuatnya dibanding rata-rata mood keseluruhan.
+ */
+public class ActivityImpact {
+    private final String activity;
+    private final int entryCount;
+    private final double averageMood;
+    private final double overallAverage;
+
+    public ActivityImpact(String activity, int entryCount, double averageMood, double overallAverage) {
+        this.activity = activity;
+        this.entryCount = entryCount;
+        this.averageMood = averageMood;
+        this.overallAverage = overallAverage;
+    }
+
+    public String getActivity() { return activity; }
+    public int getEntryCount() { return entryCount; }
+    public double getAverageMood() { return averageMood; }
+    /** Positif jika mood lebih baik dari rata-rata saat aktivitas ini dilakukan */
+    public double getMoodDelta() { return averageMood - overallAverage; }
+}
\ No newline at end of file
@@ -1,16 +1,33 @@
 package com.habittracker.model;
 
 import java.io.Serializable;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 public class AppData implements Serializable {
+    // Sama dengan UID hasil hitungan versi lama agar appdata.ser yang ada tetap terbaca
+    private static final long serialVersionUID = -4749038289520638828L;
+
     private User currentUser;
     private List<Habit> habits;
     private List<MoodEntry> moodEntries;
     private Map<String, List<String>> customActivities;
+    // Indeks id -> habit; tidak disimpan, dibangun ulang saat pertama dipakai setelah load
+    private transient Map<String, Habit> habitIndex;
+    // Indeks tanggal -> posisi entry mood di list (entry pertama per hari), juga dibangun
+    // ulang secara lazy; posisi, bukan objek, agar riwayat berbasis kolom tidak ikut dibuat
+    private transient TreeMap<LocalDate, Integer> moodIndex;
+    private transient int moodIndexedCount;
+    // Hari entry terbaru dan posisi entry pertama pada hari itu (-1 jika belum ada), diperbarui
+    // per entry baru tanpa TreeMap, sehingga lookup hari ini tidak perlu membangun indeks
+    private transient long latestMoodDay;
+    private transient int latestMoodPosition;
+    private transient int latestMoodScanned;
 
     public AppData() {
         this.habits = new ArrayList<>();
@@ -21,28 +38,130 @@ public class AppData implements Serializable {
     public User getCurrentUser() { return currentUser; }
     public void setCurrentUser(User currentUser) { this.currentUser = currentUser; }
     public List<Habit> getHabits() { return habits; }
-    public void setHabits(List<Habit> habits) { this.habits = habits; }
+    public void setHabits(List<Habit> habits) {
+        this.habits = habits;
+        this.habitIndex = null;
+    }
     public List<MoodEntry> getMoodEntries() { return moodEntries; }
-    public void setMoodEntries(List<MoodEntry> moodEntries) { this.moodEntries = moodEntries; }
+    public void setMoodEntries(List<MoodEntry> moodEntries) {
+        this.moodEntries = moodEntries;
+        this.moodIndex = null;
+        this.latestMoodScanned = 0;
+    }
     public Map<String, List<String>> getCustomActivities() { return customActivities; }
     public void setCustomActivities(Map<String, List<String>> customActivities) {
         this.customActivities = customActivities;
     }
 
-    public void addHabit(Habit habit) { habits.add(habit); }
-    public void removeHabit(String habitId) { habits.removeIf(h -> h.getId().equals(habitId)); }
+    /**
+     * Aktivitas custom milik user (key = username); list kosong jika belum ada
+     */
+    public List<String> getCustomActivities(String username) {
+        List<String> activities = customActivities.get(username);
+        return activities != null ? activities : new ArrayList<>();
+    }
+
+    /**
+     * Menambahkan aktivitas custom; false jika sudah ada
+     */
+    public boolean addCustomActivity(String username, String activity) {
+        List<String> activities = customActivities.computeIfAbsent(username, key -> new ArrayList<>());
+        if (activities.contains(activity)) return false;
+        activities.add(activity);
+        ActivityDictionary.getInstance().intern(activity);
+        return true;
+    }
+
+    public void addHabit(Habit habit) {
+        Map<String, Habit> index = habitIndex();
+        habits.add(habit);
+        index.put(habit.getId(), habit);
+    }
+    public void removeHabit(String habitId) {
+        Habit removed = habitIndex().remove(habitId);
+        if (removed == null) return;
+        // Cari berdasarkan referensi dari belakang; habit baru biasanya yang dihapus
+        for (int i = habits.size() - 1; i >= 0; i--) {
+            if (habits.get(i) == removed) {
+                habits.remove(i);
+                break;
+            }
+        }
+    }
     public Habit getHabitById(String habitId) {
-        return habits.stream()
-                .filter(h -> h.getId().equals(habitId))
-                .findFirst()
-                .orElse(null);
-    }
-    public void addMoodEntry(MoodEntry entry) { moodEntries.add(entry); }
-    public MoodEntry getTodayMoodEntry() {
-        return moodEntries.stream()
-                .filter(e -> e.getTimestamp().toLocalDate().equals(java.time.LocalDate.now()))
-                .findFirst()
-                .orElse(null);
+        return habitIndex().get(habitId);
+    }
+
+    private Map<String, Habit> habitIndex() {
+        // Dibangun ulang jika belum ada (setelah deserialisasi) atau list diubah dari luar
+        if (habitIndex == null || habitIndex.size() != habits.size()) {
+            habitIndex = new HashMap<>(habits.size() * 2);
+            for (Habit habit : habits) habitIndex.put(habit.getId(), habit);
+        }
+        return habitIndex;
+    }
+    public void addMoodEntry(MoodEntry entry) {
+        boolean indexCurrent = moodIndex != null && moodIndexedCount == moodEntries.size();
+        moodEntries.add(entry);
+        if (indexCurrent) indexMoodEntry(moodIndex, moodEntries.size() - 1);
+    }
+    public MoodEntry getTodayMoodEntry() { return getMoodEntry(LocalDate.now()); }
+
+    /**
+     * Entry mood pada tanggal tertentu. Tanggal entry terbaru (biasanya hari ini) dan tanggal
+     * sesudahnya dijawab dari posisi yang disimpan: O(1), kecuali pemindaian kolom hari sekali
+     * setelah load. Tanggal lain lewat indeks terurut, O(log n), yang baru dibangun saat
+     * pertama dibutuhkan.
+     */
+    public MoodEntry getMoodEntry(LocalDate date) {
+        scanLatestMood();
+        long day = date.toEpochDay();
+        if (latestMoodPosition < 0 || day > latestMoodDay) return null;
+        if (day == latestMoodDay) return moodEntries.get(latestMoodPosition);
+        Integer position = moodIndex().get(date);
+        return position != null ? moodEntries.get(position) : null;
+    }
+
+    /**
+     * Entry mood dalam rentang [from, to] urut tanggal; O(log n + k)
+     */
+    public Collection<MoodEntry> getMoodEntriesBetween(LocalDate from, LocalDate to) {
+        Collection<Integer> positions = moodIndex().subMap(from, true, to, true).values();
+        List<MoodEntry> entries = new ArrayList<>(positions.size());
+        for (int position : positions) entries.add(moodEntries.get(position));
+        return entries;
+    }
+
+    private TreeMap<LocalDate, Integer> moodIndex() {
+        if (moodIndex == null || moodIndexedCount != moodEntries.size()) {
+            moodIndex = new TreeMap<>();
+            moodIndexedCount = 0;
+            for (int i = 0; i < moodEntries.size(); i++) indexMoodEntry(moodIndex, i);
+        }
+        return moodIndex;
+    }
+
+    private void indexMoodEntry(TreeMap<LocalDate, Integer> index, int position) {
+        long day = ColumnarMoodList.epochDay(moodEntries, position);
+        index.putIfAbsent(LocalDate.ofEpochDay(day), position);
+        moodIndexedCount++;
+    }
+
+    // Hanya membaca kolom hari untuk entry yang belum dilihat; ulang dari awal jika list menyusut
+    private void scanLatestMood() {
+        int size = moodEntries.size();
+        if (latestMoodScanned == 0 || latestMoodScanned > size) {
+            latestMoodScanned = 0;
+            latestMoodPosition = -1;
+        }
+        for (int i = latestMoodScanned; i < size; i++) {
+            long day = ColumnarMoodList.epochDay(moodEntries, i);
+            if (latestMoodPosition < 0 || day > latestMoodDay) {
+                latestMoodDay = day;
+                latestMoodPosition = i;
+            }
+        }
+        latestMoodScanned = size;
     }
     public boolean hasMoodEntryToday() { return getTodayMoodEntry() != null; }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.habittracker.service;
+
+import com.habittracker.model.AppData;
+import com.habittracker.model.User;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Satu-satunya pemilik AppData di dalam proses. Data dimuat sekali,
+ * instance yang sama dibagikan ke semua service, dan semua penulisan ke disk
+ * lewat repository ini sehingga service tidak saling menimpa perubahan.
+ */
+public class AppRepository {
+    private static AppRepository instance;
+
+    private final DataService dataService;
+    private AppData appData;
+    private User currentUser;
+    private HabitAggregates habitAggregates;
+    private MoodSeries moodSeries;
+    private ActivityAnalyticsService activityAnalytics;
+    // Naik setiap kali ada perubahan data; dipakai view untuk tahu kapan cache basi
+    private final AtomicLong dataVersion = new AtomicLong();
+
+    private AppRepository(DataService dataService) {
+        this.dataService = dataService;
+    }
+
+    public static synchronized AppRepository getInstance() {
+        if (instance == null) instance = new AppRepository(new DataService());
+        return instance;
+    }
+
+    /**
+     * Mengembalikan AppData bersama; file hanya dibaca pada pemanggilan pertama
+     */
+    public synchronized AppData getData() {
+        if (appData == null) {
+            appData = dataService.loadData();
+            // File user adalah sumber kebenaran untuk data login
+            User storedUser = currentUser != null ? currentUser : dataService.loadUser();
+            if (storedUser != null) appData.setCurrentUser(storedUser);
+        }
+        return appData;
+    }
+
+    /**
+     * Agregat habit bersama untuk semua HabitService; dibangun sekali dari data yang dimuat
+     */
+    public synchronized HabitAggregates getHabitAggregates() {
+        if (habitAggregates == null) {
+            habitAggregates = new HabitAggregates();
+            habitAggregates.rebuild(getData().getHabits());
+        }
+        return habitAggregates;
+    }
+
+    /**
+     * Deret mood harian bersama untuk semua MoodService; dibangun sekali dari data yang dimuat
+     */
+    public synchronized MoodSeries getMoodSeries() {
+        if (moodSeries == null) {
+            moodSeries = new MoodSeries();
+            moodSeries.rebuild(getData().getMoodEntries());
+        }
+        return moodSeries;
+    }
+
+    /**
+     * Agregat aktivitas bersama untuk semua MoodService; dibangun sekali dari data yang dimuat
+     */
+    public synchronized ActivityAnalyticsService getActivityAnalytics() {
+        if (activityAnalytics == null) {
+            activityAnalytics = new ActivityAnalyticsService();
+            activityAnalytics.rebuild(getData().getMoodEntries());
+        }
+        return activityAnalytics;
+    }
+
+    /**
+     * Pesan untuk user jika data tersimpan tidak bisa dibaca saat dimuat, atau null
+     */
+    public synchronized String getLoadWarning() {
+        return appData != null ? dataService.getLoadWarning() : null;
+    }
+
+    /**
+     * Membaca user tanpa memuat riwayat habit dan mood
+     */
+    public synchronized User getCurrentUser() {
+        if (appData != null) return appData.getCurrentUser();
+        if (currentUser == null) {
+            currentUser = dataService.loadUser();
+            if (currentUser == null && dataService.hasSnapshot()) {
+                // Migrasi satu kali dari data lama yang hanya punya snapshot
+                currentUser = getData().getCurrentUser();
+                if (currentUser != null) {
+                    try { dataService.saveUser(currentUser); } catch (IOException e) { e.printStackTrace(); }
+                }
+            }
+        }
+        return currentUser;
+    }
+
+    public synchronized void saveUser(User user) throws IOException {
+        dataService.saveUser(user);
+        currentUser = user;
+        if (appData != null) appData.setCurrentUser(user);
+    }
+
+    /**
+     * Mencatat satu perubahan kecil ke journal
+     */
+    public void record(JournalRecord record) throws IOException {
+        dataVersion.incrementAndGet();
+        dataService.append(record);
+    }
+
+    /**
+     * Versi data saat ini; berubah setiap kali habit atau mood diubah
+     */
+    public long getDataVersion() {
+        return dataVersion.get();
+    }
+
+    /**
+     * Menulis seluruh state bersama sebagai snapshot baru
+     */
+    public synchronized void saveSnapshot() throws IOException {
+        dataService.saveData(getData());
+    }
+
+    public void flush() {
+        dataService.flush();
+    }
+}
\ No newline at end of file
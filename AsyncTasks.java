@@ -0,0 +1,71 @@
+package com.habittracker.controller;
+
+import javax.swing.SwingUtilities;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Executor latar belakang untuk controller. Pekerjaan disk berjalan di satu thread
+ * I/O, perhitungan analitik di pool terpisah, dan hasilnya diterapkan di EDT.
+ */
+public final class AsyncTasks {
+    private static final ExecutorService IO_EXECUTOR =
+            Executors.newSingleThreadExecutor(daemonThreads("habittracker-io"));
+    private static final ExecutorService ANALYTICS_EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1), daemonThreads("habittracker-analytics"));
+    private static final Executor EDT = SwingUtilities::invokeLater;
+
+    private AsyncTasks() {
+    }
+
+    public static <T> CompletableFuture<T> supplyIo(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, IO_EXECUTOR);
+    }
+
+    public static CompletableFuture<Void> runIo(Runnable task) {
+        return CompletableFuture.runAsync(task, IO_EXECUTOR);
+    }
+
+    public static <T> CompletableFuture<T> supplyAnalytics(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, ANALYTICS_EXECUTOR);
+    }
+
+    public static Executor analyticsExecutor() {
+        return ANALYTICS_EXECUTOR;
+    }
+
+    public static Executor edtExecutor() {
+        return EDT;
+    }
+
+    /**
+     * Menjalankan callback di EDT setelah future selesai. Error dibuka dari
+     * CompletionException sebelum diteruskan ke onError.
+     */
+    public static <T> void onEdt(CompletableFuture<T> future, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        future.whenCompleteAsync((result, error) -> {
+            if (error == null) {
+                onSuccess.accept(result);
+            } else {
+                onError.accept(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            }
+        }, EDT);
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.habittracker.controller;
 
 import com.habittracker.service.AuthService;
+import java.util.concurrent.CompletableFuture;
 
 public class AuthController {
     private AuthService authService;
@@ -8,4 +9,25 @@ public class AuthController {
     public boolean login(String username, String password) { return authService.login(username, password); }
     public boolean register(String username, String password, String email) { return authService.register(username, password, email); }
     public boolean isLoggedIn() { return authService.isLoggedIn(); }
+
+    /**
+     * Login di thread I/O; jika berhasil, data juga dimuat di sana sehingga
+     * MainView bisa langsung dibuat di EDT tanpa membaca disk
+     */
+    public CompletableFuture<Boolean> loginAsync(String username, String password) {
+        return AsyncTasks.supplyIo(() -> {
+            if (!authService.login(username, password)) return false;
+            authService.loadUserData();
+            return true;
+        });
+    }
+
+    /**
+     * Pesan untuk ditampilkan jika data tersimpan gagal dibaca saat login, atau null
+     */
+    public String getDataWarning() { return authService.getDataWarning(); }
+
+    public CompletableFuture<Boolean> registerAsync(String username, String password, String email) {
+        return AsyncTasks.supplyIo(() -> authService.register(username, password, email));
+    }
 }
\ No newline at end of file
@@ -4,9 +4,9 @@ import com.habittracker.model.*;
 import java.security.MessageDigest;
 
 public class AuthService {
-    private DataService dataService;
+    private AppRepository repository;
 
-    public AuthService() { this.dataService = new DataService(); }
+    public AuthService() { this.repository = AppRepository.getInstance(); }
 
     public boolean register(String username, String password, String email) {
         if (username == null || username.trim().isEmpty() ||
@@ -17,14 +17,10 @@ public class AuthService {
 
         String passwordHash = hashPassword(password);
         User newUser = new User(username, passwordHash, email);
-        AppData data = dataService.loadData();
-
-        if (data.getCurrentUser() != null) return false;
-
-        data.setCurrentUser(newUser);
+        if (repository.getCurrentUser() != null) return false;
 
         try {
-            dataService.saveData(data);
+            repository.saveUser(newUser);
             return true;
         } catch (Exception e) {
             return false;
@@ -32,8 +28,7 @@ public class AuthService {
     }
 
     public boolean login(String username, String password) {
-        AppData data = dataService.loadData();
-        User user = data.getCurrentUser();
+        User user = repository.getCurrentUser();
         if (user == null) return false;
 
         String inputHash = hashPassword(password);
@@ -41,9 +36,26 @@ public class AuthService {
                 user.getPasswordHash().equals(inputHash);
     }
 
+    /**
+     * Memuat seluruh data habit dan mood, beserta agregat bersamanya, sebelum tampilan
+     * utama dibuat; dipanggil di thread I/O sehingga MainView tidak membangun apa pun di EDT
+     */
+    public void loadUserData() {
+        repository.getData();
+        repository.getHabitAggregates();
+        repository.getMoodSeries();
+        repository.getActivityAnalytics();
+    }
+
+    /**
+     * Pesan jika data tersimpan gagal dibaca saat loadUserData(), atau null
+     */
+    public String getDataWarning() {
+        return repository.getLoadWarning();
+    }
+
     public boolean isLoggedIn() {
-        AppData data = dataService.loadData();
-        return data.getCurrentUser() != null;
+        return repository.getCurrentUser() != null;
     }
 
     private String hashPassword(String password) {
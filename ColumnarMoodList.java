@@ -0,0 +1,175 @@
+package com.habittracker.model;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List entry mood yang membaca riwayat dari kolom (hari, waktu, level, aktivitas,
+ * id, catatan) alih-alih menyimpan satu objek per entry. MoodEntry baru dibuat
+ * saat get(i) dipanggil lalu disimpan, jadi perubahan pada entry itu tetap
+ * terlihat; entry yang ditambahkan setelah load disimpan biasa di ekor list.
+ * Agregat cukup memakai helper static epochDay/moodValue/activityBits yang
+ * tidak membuat objek. Seperti ArrayList, list ini tidak thread-safe.
+ */
+public class ColumnarMoodList extends AbstractList<MoodEntry> implements RandomAccess, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Sumber kolom read-only; indeks 0..size()-1
+     */
+    public interface Columns {
+        int size();
+        long epochDay(int index);
+        long nanoOfDay(int index);
+        int moodValue(int index);
+        /** Bitset id ActivityDictionary; array baru setiap panggilan */
+        long[] activityBits(int index);
+        String id(int index);
+        String notes(int index);
+
+        /**
+         * Membuat MoodEntry baru dari satu baris kolom
+         */
+        default MoodEntry entry(int index) {
+            LocalDateTime timestamp = LocalDateTime.of(
+                    LocalDate.ofEpochDay(epochDay(index)), LocalTime.ofNanoOfDay(nanoOfDay(index)));
+            MoodEntry entry = new MoodEntry(id(index), MoodEntry.MoodLevel.fromValue(moodValue(index)), timestamp);
+            entry.setActivityBits(activityBits(index));
+            entry.setNotes(notes(index));
+            return entry;
+        }
+    }
+
+    private transient Columns columns;
+    private transient int stored;
+    // Entry yang sudah dibuat dari kolom; dialokasikan saat get pertama
+    private transient MoodEntry[] materialized;
+    private transient List<MoodEntry> tail = new ArrayList<>();
+
+    public ColumnarMoodList(Columns columns) {
+        this.columns = columns;
+        this.stored = columns.size();
+    }
+
+    @Override
+    public MoodEntry get(int index) {
+        if (index >= stored) return tail.get(index - stored);
+        if (index < 0) throw new IndexOutOfBoundsException("Index: " + index);
+        if (materialized == null) materialized = new MoodEntry[stored];
+        MoodEntry entry = materialized[index];
+        if (entry == null) {
+            entry = columns.entry(index);
+            materialized[index] = entry;
+        }
+        return entry;
+    }
+
+    @Override
+    public int size() {
+        return stored + tail.size();
+    }
+
+    @Override
+    public MoodEntry set(int index, MoodEntry entry) {
+        if (index >= stored) return tail.set(index - stored, entry);
+        MoodEntry previous = get(index);
+        materialized[index] = entry;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, MoodEntry entry) {
+        if (index < stored) detach();
+        tail.add(index - stored, entry);
+        modCount++;
+    }
+
+    @Override
+    public MoodEntry remove(int index) {
+        if (index < stored) detach();
+        modCount++;
+        return tail.remove(index - stored);
+    }
+
+    /**
+     * Epoch day entry ke-i tanpa membuat MoodEntry jika list berbasis kolom
+     */
+    public static long epochDay(List<MoodEntry> entries, int index) {
+        if (entries instanceof ColumnarMoodList) {
+            ColumnarMoodList list = (ColumnarMoodList) entries;
+            MoodEntry entry = list.peekMaterialized(index);
+            if (entry == null) return list.columns.epochDay(index);
+            return entry.getTimestamp().toLocalDate().toEpochDay();
+        }
+        return entries.get(index).getTimestamp().toLocalDate().toEpochDay();
+    }
+
+    /**
+     * Nilai mood (1-5) entry ke-i
+     */
+    public static int moodValue(List<MoodEntry> entries, int index) {
+        if (entries instanceof ColumnarMoodList) {
+            ColumnarMoodList list = (ColumnarMoodList) entries;
+            MoodEntry entry = list.peekMaterialized(index);
+            if (entry == null) return list.columns.moodValue(index);
+            return entry.getMood().getValue();
+        }
+        return entries.get(index).getMood().getValue();
+    }
+
+    /**
+     * Bitset aktivitas entry ke-i (salinan)
+     */
+    public static long[] activityBits(List<MoodEntry> entries, int index) {
+        if (entries instanceof ColumnarMoodList) {
+            ColumnarMoodList list = (ColumnarMoodList) entries;
+            MoodEntry entry = list.peekMaterialized(index);
+            if (entry == null) return list.columns.activityBits(index);
+            return entry.getActivityBits();
+        }
+        return entries.get(index).getActivityBits();
+    }
+
+    /**
+     * Entry ke-i untuk dibaca sekali saja (misalnya saat menyimpan): entry dari
+     * kolom dibuat tanpa disimpan di list, jadi tidak menambah memori
+     */
+    public static MoodEntry peek(List<MoodEntry> entries, int index) {
+        if (entries instanceof ColumnarMoodList) {
+            ColumnarMoodList list = (ColumnarMoodList) entries;
+            MoodEntry entry = list.peekMaterialized(index);
+            return entry != null ? entry : list.columns.entry(index);
+        }
+        return entries.get(index);
+    }
+
+    // Entry yang sudah ada di heap (ekor atau hasil get sebelumnya); null jika harus dibaca dari kolom
+    private MoodEntry peekMaterialized(int index) {
+        if (index >= stored) return tail.get(index - stored);
+        if (index < 0) throw new IndexOutOfBoundsException("Index: " + index);
+        return materialized != null ? materialized[index] : null;
+    }
+
+    // Sisipan/hapus di tengah riwayat (jarang): pindahkan semua ke heap agar indeks tetap konsisten
+    private void detach() {
+        List<MoodEntry> all = new ArrayList<>(size() + 1);
+        for (int i = 0; i < stored; i++) all.add(get(i));
+        all.addAll(tail);
+        tail = all;
+        stored = 0;
+        materialized = null;
+        columns = null;
+    }
+
+    // Diserialisasi sebagai ArrayList biasa; kolom tidak ikut ke stream
+    private Object writeReplace() throws ObjectStreamException {
+        return new ArrayList<>(this);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.habittracker.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Penjadwal harian bersama untuk seluruh aplikasi. Satu thread daemon memberi tahu
+ * listener saat tanggal lokal berganti (tepat setelah tengah malam, plus pengecekan
+ * tiap menit untuk menangani sleep atau perubahan jam sistem).
+ */
+public final class DailyScheduler {
+    private static final long CHECK_INTERVAL_SECONDS = 60;
+    private static DailyScheduler instance;
+
+    private final ScheduledExecutorService executor;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private LocalDate currentDay;
+
+    private DailyScheduler() {
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "habittracker-daily");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.currentDay = LocalDate.now();
+        scheduleNextMidnight();
+        executor.scheduleWithFixedDelay(this::checkDayChange,
+                CHECK_INTERVAL_SECONDS, CHECK_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "habittracker-daily-shutdown"));
+    }
+
+    public static synchronized DailyScheduler getInstance() {
+        if (instance == null) instance = new DailyScheduler();
+        return instance;
+    }
+
+    /**
+     * Mendaftarkan listener yang dipanggil dengan tanggal baru lewat executor yang diberikan
+     * (misalnya EDT untuk listener yang mengubah model atau UI)
+     */
+    public void addListener(Consumer<LocalDate> listener, Executor callbackExecutor) {
+        listeners.add(new Listener(listener, callbackExecutor));
+    }
+
+    public void removeListener(Consumer<LocalDate> listener) {
+        listeners.removeIf(registered -> registered.callback == listener);
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+        listeners.clear();
+    }
+
+    private void scheduleNextMidnight() {
+        if (executor.isShutdown()) return;
+        LocalDateTime nextMidnight = LocalDate.now().plusDays(1).atStartOfDay();
+        long delayMillis = Math.max(Duration.between(LocalDateTime.now(), nextMidnight).toMillis(), 0) + 1;
+        executor.schedule(() -> {
+            checkDayChange();
+            scheduleNextMidnight();
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Hanya dijalankan di thread scheduler
+    private void checkDayChange() {
+        LocalDate today = LocalDate.now();
+        if (today.equals(currentDay)) return;
+
+        currentDay = today;
+        for (Listener listener : listeners) {
+            listener.executor.execute(() -> listener.callback.accept(today));
+        }
+    }
+
+    private static class Listener {
+        final Consumer<LocalDate> callback;
+        final Executor executor;
+
+        Listener(Consumer<LocalDate> callback, Executor executor) {
+            this.callback = callback;
+            this.executor = executor;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.habittracker.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Semua angka yang dibutuhkan tab Statistics, dihitung sekali lalu dipakai
+ * untuk seluruh render. Objek ini immutable.
+ */
+public class DashboardSnapshot {
+    private final HabitStats habitStats;
+    private final MoodStats moodStats;
+    private final List<HabitMoodCorrelation> correlations;
+
+    public DashboardSnapshot(HabitStats habitStats, MoodStats moodStats) {
+        this(habitStats, moodStats, Collections.emptyList());
+    }
+
+    public DashboardSnapshot(HabitStats habitStats, MoodStats moodStats, List<HabitMoodCorrelation> correlations) {
+        this.habitStats = habitStats;
+        this.moodStats = moodStats;
+        this.correlations = Collections.unmodifiableList(correlations);
+    }
+
+    public HabitStats getHabitStats() { return habitStats; }
+    public MoodStats getMoodStats() { return moodStats; }
+    /** Korelasi habit-mood, terurut dari yang paling positif */
+    public List<HabitMoodCorrelation> getCorrelations() { return correlations; }
+
+    /**
+     * Jumlah lintasan penuh atas koleksi habit/mood yang terjadi saat kedua bagian
+     * snapshot ini dibangun (lihat DataPassCounter)
+     */
+    public int getDataPasses() { return habitStats.getDataPasses() + moodStats.getDataPasses(); }
+
+    public static class HabitStats {
+        private final int habitCount;
+        private final double dailyProgress;
+        private final int todayCompletions;
+        private final int totalStreak;
+        private final int bestOverallStreak;
+        private final double weeklyCompletionRate;
+        private final String mostProductiveCategory;
+        private final int dataPasses;
+
+        public HabitStats(int habitCount, double dailyProgress, int todayCompletions, int totalStreak,
+                          int bestOverallStreak, double weeklyCompletionRate, String mostProductiveCategory,
+                          int dataPasses) {
+            this.habitCount = habitCount;
+            this.dailyProgress = dailyProgress;
+            this.todayCompletions = todayCompletions;
+            this.totalStreak = totalStreak;
+            this.bestOverallStreak = bestOverallStreak;
+            this.weeklyCompletionRate = weeklyCompletionRate;
+            this.mostProductiveCategory = mostProductiveCategory;
+            this.dataPasses = dataPasses;
+        }
+
+        public int getHabitCount() { return habitCount; }
+        public double getDailyProgress() { return dailyProgress; }
+        public int getTodayCompletions() { return todayCompletions; }
+        public int getTotalStreak() { return totalStreak; }
+        public int getBestOverallStreak() { return bestOverallStreak; }
+        public double getWeeklyCompletionRate() { return weeklyCompletionRate; }
+        public String getMostProductiveCategory() { return mostProductiveCategory; }
+        public int getDataPasses() { return dataPasses; }
+    }
+
+    public static class MoodStats {
+        private final double averageMoodLast7Days;
+        private final int totalMoodEntries;
+        private final int goodMoodDays;
+        private final MoodEntry.MoodLevel mostFrequentMood;
+        private final Map<MoodEntry.MoodLevel, Integer> moodDistribution;
+        private final List<ActivityImpact> activityImpacts;
+        private final int dataPasses;
+
+        public MoodStats(double averageMoodLast7Days, int totalMoodEntries, int goodMoodDays,
+                         MoodEntry.MoodLevel mostFrequentMood, Map<MoodEntry.MoodLevel, Integer> moodDistribution,
+                         List<ActivityImpact> activityImpacts, int dataPasses) {
+            this.averageMoodLast7Days = averageMoodLast7Days;
+            this.totalMoodEntries = totalMoodEntries;
+            this.goodMoodDays = goodMoodDays;
+            this.mostFrequentMood = mostFrequentMood;
+            this.moodDistribution = Collections.unmodifiableMap(moodDistribution);
+            this.activityImpacts = Collections.unmodifiableList(activityImpacts);
+            this.dataPasses = dataPasses;
+        }
+
+        public double getAverageMoodLast7Days() { return averageMoodLast7Days; }
+        public int getTotalMoodEntries() { return totalMoodEntries; }
+        public int getGoodMoodDays() { return goodMoodDays; }
+        public MoodEntry.MoodLevel getMostFrequentMood() { return mostFrequentMood; }
+        public Map<MoodEntry.MoodLevel, Integer> getMoodDistribution() { return moodDistribution; }
+        /** Aktivitas terurut dari rata-rata mood tertinggi */
+        public List<ActivityImpact> getActivityImpacts() { return activityImpacts; }
+        public int getDataPasses() { return dataPasses; }
+    }
+}
\ No newline at end of file
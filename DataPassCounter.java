@@ -0,0 +1,26 @@
+package com.habittracker.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Menghitung lintasan penuh atas koleksi habit atau mood (rebuild agregat dan
+ * loop statistik). Selisih nilai sebelum dan sesudah suatu operasi menunjukkan
+ * berapa lintasan yang dibutuhkan operasi itu.
+ */
+public final class DataPassCounter {
+    private static final AtomicLong passes = new AtomicLong();
+
+    private DataPassCounter() {
+    }
+
+    static void record() {
+        passes.incrementAndGet();
+    }
+
+    /**
+     * Total lintasan sejak aplikasi berjalan
+     */
+    public static long get() {
+        return passes.get();
+    }
+}
\ No newline at end of file
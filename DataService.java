@@ -1,25 +1,246 @@
 package com.habittracker.service;
 
 import com.habittracker.model.AppData;
+import com.habittracker.model.User;
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 public class DataService {
-    private static final String DATA_FILE = "appdata.ser";
+    // Folder data; default folder kerja, bisa diganti lewat -Dhabittracker.dataDir
+    private static final Path DATA_DIR = Paths.get(System.getProperty("habittracker.dataDir", "."));
+    private static final Path DATA_FILE = DATA_DIR.resolve("appdata.bin");
+    // Snapshot yang ditulis saat appdata.bin sedang di-map dan tidak bisa ditimpa; dipromosikan saat load
+    private static final Path NEXT_DATA_FILE = DATA_DIR.resolve("appdata.bin.next");
+    // Snapshot Java serialization versi lama; dimigrasi sekali lalu diganti nama menjadi .bak
+    private static final Path LEGACY_DATA_FILE = DATA_DIR.resolve("appdata.ser");
+    private static final Path LEGACY_BACKUP_FILE = DATA_DIR.resolve("appdata.ser.bak");
+    private static final Path JOURNAL_FILE = DATA_DIR.resolve("appdata.journal");
+    // Data user disimpan terpisah agar login tidak perlu membaca seluruh riwayat
+    private static final Path USER_FILE = DATA_DIR.resolve("user.ser");
+    // -Dhabittracker.mappedSnapshot=true: snapshot di-map, riwayat dibaca dari file saat dipakai
+    private static final boolean MAPPED_SNAPSHOT = Boolean.getBoolean("habittracker.mappedSnapshot");
+    // -Dhabittracker.offHeapHistory=true: riwayat disalin ke memori off-heap, bukan objek di heap
+    private static final boolean OFF_HEAP_HISTORY = Boolean.getBoolean("habittracker.offHeapHistory");
+    // Journal dipadatkan ke snapshot setelah melewati ukuran ini
+    private static final long COMPACTION_THRESHOLD_BYTES = 256 * 1024;
 
+    private static final PersistenceWriter writer = new PersistenceWriter(
+            DATA_FILE, NEXT_DATA_FILE, JOURNAL_FILE,
+            COMPACTION_THRESHOLD_BYTES, PersistenceWriter.DEFAULT_WINDOW_MILLIS);
+
+    // Pesan untuk user jika snapshot gagal dibaca saat loadData(); null jika normal
+    private String loadWarning;
+    // Snapshot rusak yang tidak bisa dipindahkan: tidak boleh ditimpa snapshot baru
+    private boolean snapshotLocked;
+
+    /**
+     * Menulis snapshot penuh secara atomik lalu mengosongkan journal
+     */
     public void saveData(AppData data) throws IOException {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(DATA_FILE))) {
-            oos.writeObject(data);
-        }
+        if (snapshotLocked) throw new IOException("Unreadable snapshot could not be moved aside: " + DATA_FILE);
+        writer.writeSnapshot(serialize(data));
     }
 
+    /**
+     * Memuat snapshot lalu memutar ulang journal di atasnya
+     */
     public AppData loadData() {
-        File file = new File(DATA_FILE);
+        writer.flush();
+        promoteNextSnapshot();
+        AppData data;
+        boolean snapshotRead = true;
+        try {
+            data = readSnapshot(true);
+        } catch (IOException e) {
+            e.printStackTrace();
+            loadWarning = quarantineSnapshot(e);
+            data = new AppData();
+            snapshotRead = false;
+        }
+        replayJournal(data);
+        // Data lama yang gagal dibaca tidak dimigrasi, supaya appdata.ser tidak diganti data kosong
+        if (snapshotRead && Files.exists(LEGACY_DATA_FILE)) migrateLegacySnapshot(data);
+        return data;
+    }
+
+    /**
+     * Mengantrekan satu record journal. Record dienkode di thread pemanggil,
+     * sedangkan penulisan ke disk digabung oleh thread persistence.
+     */
+    public void append(JournalRecord record) throws IOException {
+        writer.enqueue(record.encode());
+    }
+
+    /**
+     * Menunggu sampai semua perubahan tertunda tersimpan (dipanggil saat logout/keluar)
+     */
+    public void flush() {
+        writer.flush();
+    }
+
+    /**
+     * Membaca hanya record user; null jika file user belum ada
+     */
+    public User loadUser() {
+        File file = USER_FILE.toFile();
+        if (!file.exists()) return null;
+
+        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
+            return (User) ois.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    public void saveUser(User user) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+            oos.writeObject(user);
+        }
+        writer.writeFile(USER_FILE, buffer.toByteArray());
+    }
+
+    /**
+     * Pesan untuk ditampilkan ke user jika loadData() tidak bisa membaca snapshot, atau null
+     */
+    public String getLoadWarning() {
+        return loadWarning;
+    }
+
+    public boolean hasSnapshot() {
+        return Files.exists(DATA_FILE) || Files.exists(NEXT_DATA_FILE) || Files.exists(LEGACY_DATA_FILE);
+    }
+
+    public int getWriteCount() {
+        return writer.getWriteCount();
+    }
+
+    /**
+     * Snapshot + journal untuk pemadatan journal. Berbeda dengan loadData(), snapshot yang
+     * tidak terbaca menghasilkan IOException: menggantinya dengan data kosong + journal
+     * berarti riwayat hilang permanen
+     */
+    AppData readForCompaction() throws IOException {
+        AppData data = readSnapshot(false);
+        replayJournal(data);
+        return data;
+    }
+
+    static byte[] serialize(AppData data) {
+        return SnapshotWriter.write(data);
+    }
+
+    // inPlace: boleh memakai mode mapped/off-heap; pemadatan selalu membaca biasa ke heap
+    private AppData readSnapshot(boolean inPlace) throws IOException {
+        Path file = currentSnapshotFile();
+        if (!Files.exists(file)) return readLegacySnapshot();
+
+        if (inPlace && MAPPED_SNAPSHOT) return SnapshotReader.map(file);
+        byte[] bytes = Files.readAllBytes(file);
+        return inPlace && OFF_HEAP_HISTORY ? SnapshotReader.readOffHeap(bytes) : SnapshotReader.read(bytes);
+    }
+
+    /**
+     * Snapshot yang tidak terbaca dipindahkan ke appdata.bin.corrupt-<waktu> supaya tidak
+     * ditimpa oleh pemadatan dan tidak dibaca ulang di setiap drain; sesi berlanjut dari
+     * journal saja. Jika pemindahan gagal, pemadatan dan penulisan snapshot dimatikan.
+     */
+    private String quarantineSnapshot(IOException cause) {
+        Path current = currentSnapshotFile();
+        Path damaged = Files.exists(current) ? current : LEGACY_DATA_FILE;
+        Path aside = damaged.resolveSibling(damaged.getFileName() + ".corrupt-" + System.currentTimeMillis());
+        try {
+            Files.move(damaged, aside);
+            return "Saved data could not be read (" + cause.getMessage() + ").\n"
+                    + "The damaged file was kept as " + aside.getFileName()
+                    + "; only changes from the journal were loaded.";
+        } catch (IOException e) {
+            e.printStackTrace();
+            snapshotLocked = true;
+            writer.disableCompaction();
+            return "Saved data could not be read (" + cause.getMessage() + ").\n"
+                    + "New changes are kept in the journal only until " + damaged.getFileName()
+                    + " is repaired or removed.";
+        }
+    }
+
+    // appdata.bin.next, jika ada, lebih baru daripada appdata.bin
+    private Path currentSnapshotFile() {
+        return Files.exists(NEXT_DATA_FILE) ? NEXT_DATA_FILE : DATA_FILE;
+    }
+
+    /**
+     * Sebelum apa pun di-map, generasi berikutnya menggantikan appdata.bin. Jika gagal,
+     * appdata.bin.next tetap dibaca langsung dan dicoba lagi saat load berikutnya.
+     */
+    private void promoteNextSnapshot() {
+        if (!Files.exists(NEXT_DATA_FILE)) return;
+        try {
+            Files.move(NEXT_DATA_FILE, DATA_FILE, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private AppData readLegacySnapshot() throws IOException {
+        File file = LEGACY_DATA_FILE.toFile();
         if (!file.exists()) return new AppData();
 
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(DATA_FILE))) {
+        try (ObjectInputStream ois = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)))) {
             return (AppData) ois.readObject();
-        } catch (IOException | ClassNotFoundException e) {
-            return new AppData();
+        } catch (ClassNotFoundException e) {
+            throw new InvalidClassException(e.getMessage());
+        }
+    }
+
+    /**
+     * Migrasi satu kali: data lama (sudah termasuk journal) ditulis sebagai snapshot
+     * biner, lalu appdata.ser disimpan sebagai .bak agar tidak dibaca lagi
+     */
+    private void migrateLegacySnapshot(AppData data) {
+        try {
+            if (!Files.exists(DATA_FILE)) writer.writeSnapshot(serialize(data));
+            Files.move(LEGACY_DATA_FILE, LEGACY_BACKUP_FILE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // Tetap memakai appdata.ser; migrasi dicoba lagi saat load berikutnya
+            e.printStackTrace();
+        }
+    }
+
+    private void replayJournal(AppData data) {
+        File file = JOURNAL_FILE.toFile();
+        if (!file.exists()) return;
+
+        byte[] bytes;
+        try {
+            bytes = java.nio.file.Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        ByteArrayInputStream buffer = new ByteArrayInputStream(bytes);
+        DataInputStream in = new DataInputStream(buffer);
+        int validLength = 0;
+        try {
+            while (buffer.available() > 0) {
+                JournalRecord.readFrom(in).apply(data);
+                validLength = bytes.length - buffer.available();
+            }
+        } catch (IOException e) {
+            // Record terakhir terpotong atau rusak: buang ekornya agar append berikutnya tetap terbaca
+            truncateJournal(file, validLength);
+        }
+    }
+
+    private void truncateJournal(File file, long length) {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(length);
+        } catch (IOException e) {
+            e.printStackTrace();
         }
     }
 }
\ No newline at end of file
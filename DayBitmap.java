@@ -0,0 +1,309 @@
+package com.habittracker.model;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+/**
+ * Himpunan hari (epoch day) dalam bentuk bitmap. Bit ke-i mewakili hari
+ * baseDay + i, sehingga satu tahun riwayat hanya butuh 6 long.
+ * Query rentang, streak, dan hari pertama/terakhir dikerjakan per word.
+ * Word bisa juga dibaca langsung dari buffer di luar heap (misalnya file yang
+ * di-map); salinan ke heap baru dibuat saat bitmap pertama kali diubah.
+ */
+public class DayBitmap implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private long baseDay;
+    private long[] words;
+    private int cardinality;
+    // Sumber word selama belum ada perubahan; null berarti words yang dipakai
+    private transient LongBuffer external;
+
+    public DayBitmap(long baseDay) {
+        this.baseDay = baseDay;
+        this.words = new long[1];
+    }
+
+    /**
+     * Bitmap dari word yang sudah jadi (bit 0 = baseDay); array dipakai langsung, tidak disalin
+     */
+    public DayBitmap(long baseDay, long[] words) {
+        this.baseDay = baseDay;
+        this.words = words.length > 0 ? words : new long[1];
+        for (long word : words) cardinality += Long.bitCount(word);
+    }
+
+    /**
+     * Bitmap yang membaca word dari buffer (bit 0 = baseDay) tanpa menyalinnya.
+     * Buffer tidak boleh berubah selama dipakai; perubahan bitmap ditulis ke salinan di heap.
+     */
+    public DayBitmap(long baseDay, LongBuffer words) {
+        this.baseDay = baseDay;
+        if (words.limit() == 0) {
+            this.words = new long[1];
+            return;
+        }
+        this.external = words;
+        for (int i = 0; i < words.limit(); i++) cardinality += Long.bitCount(words.get(i));
+    }
+
+    public boolean add(long day) {
+        if (contains(day)) return false;
+        materialize();
+        ensureCovers(day);
+        int index = (int) (day - baseDay);
+        long mask = 1L << index;
+        if ((words[index >>> 6] & mask) != 0) return false;
+        words[index >>> 6] |= mask;
+        cardinality++;
+        return true;
+    }
+
+    public boolean remove(long day) {
+        if (!contains(day)) return false;
+        materialize();
+        int index = (int) (day - baseDay);
+        long mask = 1L << index;
+        words[index >>> 6] &= ~mask;
+        cardinality--;
+        return true;
+    }
+
+    public boolean contains(long day) {
+        if (!covers(day)) return false;
+        int index = (int) (day - baseDay);
+        return (word(index >>> 6) & (1L << index)) != 0;
+    }
+
+    public void clear() {
+        materialize();
+        Arrays.fill(words, 0L);
+        cardinality = 0;
+    }
+
+    public int size() { return cardinality; }
+
+    public boolean isEmpty() { return cardinality == 0; }
+
+    /**
+     * Hari paling awal yang tercatat; hanya valid jika tidak kosong
+     */
+    public long firstDay() {
+        for (int i = 0; i < wordCount(); i++) {
+            if (word(i) != 0) return baseDay + ((long) i << 6) + Long.numberOfTrailingZeros(word(i));
+        }
+        throw new IllegalStateException("Bitmap is empty");
+    }
+
+    /**
+     * Hari paling akhir yang tercatat; hanya valid jika tidak kosong
+     */
+    public long lastDay() {
+        for (int i = wordCount() - 1; i >= 0; i--) {
+            if (word(i) != 0) return baseDay + ((long) i << 6) + 63 - Long.numberOfLeadingZeros(word(i));
+        }
+        throw new IllegalStateException("Bitmap is empty");
+    }
+
+    /**
+     * Hari tercatat berikutnya mulai dari fromDay (inklusif), atau Long.MAX_VALUE jika tidak ada
+     */
+    public long nextDay(long fromDay) {
+        long relative = Math.max(fromDay - baseDay, 0);
+        if (relative >= (long) wordCount() << 6) return Long.MAX_VALUE;
+
+        int wordIndex = (int) (relative >>> 6);
+        long word = word(wordIndex) & (-1L << relative);
+        while (true) {
+            if (word != 0) return baseDay + ((long) wordIndex << 6) + Long.numberOfTrailingZeros(word);
+            if (++wordIndex == wordCount()) return Long.MAX_VALUE;
+            word = word(wordIndex);
+        }
+    }
+
+    /**
+     * Jumlah hari tercatat dalam rentang [fromDay, toDay]
+     */
+    public int countBetween(long fromDay, long toDay) {
+        if (toDay < baseDay || fromDay > toDay) return 0;
+        // Bandingkan dulu sebelum mengurangi: fromDay boleh Long.MIN_VALUE (rentang terbuka)
+        long from = fromDay <= baseDay ? 0 : fromDay - baseDay;
+        long to = Math.min(toDay - baseDay, ((long) wordCount() << 6) - 1);
+        if (from > to) return 0;
+
+        int firstWord = (int) (from >>> 6);
+        int lastWord = (int) (to >>> 6);
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> (63 - (to & 63));
+
+        if (firstWord == lastWord) return Long.bitCount(word(firstWord) & firstMask & lastMask);
+
+        int count = Long.bitCount(word(firstWord) & firstMask);
+        for (int i = firstWord + 1; i < lastWord; i++) count += Long.bitCount(word(i));
+        return count + Long.bitCount(word(lastWord) & lastMask);
+    }
+
+    /**
+     * Panjang deretan hari berurutan yang berakhir tepat di day (0 jika day kosong)
+     */
+    public int runEndingAt(long day) {
+        if (!contains(day)) return 0;
+        int index = (int) (day - baseDay);
+        int wordIndex = index >>> 6;
+        // Geser agar bit day menjadi bit tertinggi, lalu hitung bit 1 beruntun dari atas
+        long word = word(wordIndex) << (63 - (index & 63));
+        int run = Long.numberOfLeadingZeros(~word);
+        if (run <= (index & 63)) return run;
+
+        while (--wordIndex >= 0 && word(wordIndex) == -1L) run += 64;
+        if (wordIndex >= 0) run += Long.numberOfLeadingZeros(~word(wordIndex));
+        return run;
+    }
+
+    /**
+     * Panjang deretan hari berurutan yang dimulai tepat di day (0 jika day kosong)
+     */
+    public int runStartingAt(long day) {
+        if (!contains(day)) return 0;
+        int index = (int) (day - baseDay);
+        int wordIndex = index >>> 6;
+        long word = word(wordIndex) >>> (index & 63);
+        int run = Long.numberOfTrailingZeros(~word);
+        if (run < 64 - (index & 63)) return run;
+
+        while (++wordIndex < wordCount() && word(wordIndex) == -1L) run += 64;
+        if (wordIndex < wordCount()) run += Long.numberOfTrailingZeros(~word(wordIndex));
+        return run;
+    }
+
+    /**
+     * Deretan hari berurutan terpanjang
+     */
+    public int longestRun() {
+        int best = 0;
+        int run = 0;
+        for (int i = 0, count = wordCount(); i < count; i++) {
+            long word = word(i);
+            if (word == -1L) {
+                run += 64;
+                continue;
+            }
+            if (word == 0) {
+                best = Math.max(best, run);
+                run = 0;
+                continue;
+            }
+
+            // Deretan dari word sebelumnya berlanjut lewat bit-bit terbawah
+            int low = Long.numberOfTrailingZeros(~word);
+            best = Math.max(best, run + low);
+
+            // Deretan yang seluruhnya berada di dalam word ini
+            long rest = word >>> low;
+            int position = low;
+            while (rest != 0) {
+                int zeros = Long.numberOfTrailingZeros(rest);
+                rest >>>= zeros;
+                position += zeros;
+                int ones = Long.numberOfTrailingZeros(~rest);
+                if (position + ones == 64) {
+                    run = ones;
+                    break;
+                }
+                best = Math.max(best, ones);
+                rest >>>= ones;
+                position += ones;
+                run = 0;
+            }
+            if (rest == 0) run = 0;
+        }
+        return Math.max(best, run);
+    }
+
+    /**
+     * Menambahkan delta ke counts[hari - fromDay] untuk setiap hari tercatat yang jatuh di
+     * dalam array; word kosong dilewati tanpa memeriksa bitnya
+     */
+    public void addCounts(int[] counts, long fromDay, int delta) {
+        long start = fromDay - baseDay;
+        for (int i = 0, count = wordCount(); i < count; i++) {
+            long word = word(i);
+            while (word != 0) {
+                long index = ((long) i << 6) + Long.numberOfTrailingZeros(word) - start;
+                if (index >= 0 && index < counts.length) counts[(int) index] += delta;
+                word &= word - 1;
+            }
+        }
+    }
+
+    /**
+     * Menyalin bit untuk rentang [fromDay, fromDay + length) ke array baru; bit 0 = fromDay
+     */
+    public long[] extract(long fromDay, int length) {
+        long[] out = new long[(length + 63) >>> 6];
+        long start = fromDay - baseDay;
+        for (int i = 0; i < out.length; i++) {
+            out[i] = bitsAt(start + ((long) i << 6));
+        }
+        int tail = length & 63;
+        if (tail != 0) out[out.length - 1] &= (1L << tail) - 1;
+        return out;
+    }
+
+    // 64 bit berurutan mulai dari posisi relatif offset (boleh di luar jangkauan)
+    private long bitsAt(long offset) {
+        long wordIndex = Math.floorDiv(offset, 64);
+        int shift = Math.floorMod(offset, 64);
+        long low = wordAt(wordIndex) >>> shift;
+        if (shift == 0) return low;
+        return low | (wordAt(wordIndex + 1) << (64 - shift));
+    }
+
+    private long wordAt(long index) {
+        return index >= 0 && index < wordCount() ? word((int) index) : 0L;
+    }
+
+    private long word(int index) {
+        return external == null ? words[index] : external.get(index);
+    }
+
+    private int wordCount() {
+        return external == null ? words.length : external.limit();
+    }
+
+    // Salinan ke heap sebelum perubahan pertama; buffer asal tidak pernah ditulis
+    private void materialize() {
+        if (external == null) return;
+        long[] copy = new long[external.limit()];
+        external.get(0, copy);
+        words = copy;
+        external = null;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        materialize();
+        out.defaultWriteObject();
+    }
+
+    private boolean covers(long day) {
+        long relative = day - baseDay;
+        return relative >= 0 && relative < (long) wordCount() << 6;
+    }
+
+    private void ensureCovers(long day) {
+        if (day < baseDay) {
+            // Geser base ke bawah per satu word penuh agar posisi bit lama tetap sama
+            int extraWords = (int) ((baseDay - day + 63) >>> 6);
+            long[] grown = new long[words.length + extraWords];
+            System.arraycopy(words, 0, grown, extraWords, words.length);
+            words = grown;
+            baseDay -= (long) extraWords << 6;
+        } else if (day - baseDay >= (long) words.length << 6) {
+            int needed = (int) ((day - baseDay) >>> 6) + 1;
+            words = Arrays.copyOf(words, Math.max(needed, words.length + (words.length >>> 1) + 1));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.habittracker.model;
+
+import java.time.LocalDate;
+
+/**
+ * Perubahan domain yang dipublikasikan service setelah model diubah, supaya
+ * view bisa menerapkan delta saja tanpa membangun ulang semuanya.
+ */
+public abstract class DomainEvent {
+
+    public static class HabitAdded extends DomainEvent {
+        private final Habit habit;
+
+        public HabitAdded(Habit habit) { this.habit = habit; }
+
+        public Habit getHabit() { return habit; }
+    }
+
+    public static class HabitDeleted extends DomainEvent {
+        private final String habitId;
+
+        public HabitDeleted(String habitId) { this.habitId = habitId; }
+
+        public String getHabitId() { return habitId; }
+    }
+
+    /**
+     * Centang habit berubah pada satu tanggal (completed = true jika dicentang)
+     */
+    public static class HabitCompleted extends DomainEvent {
+        private final String habitId;
+        private final LocalDate date;
+        private final boolean completed;
+
+        public HabitCompleted(String habitId, LocalDate date, boolean completed) {
+            this.habitId = habitId;
+            this.date = date;
+            this.completed = completed;
+        }
+
+        public String getHabitId() { return habitId; }
+        public LocalDate getDate() { return date; }
+        public boolean isCompleted() { return completed; }
+    }
+
+    public static class MoodLogged extends DomainEvent {
+        private final MoodEntry entry;
+
+        public MoodLogged(MoodEntry entry) { this.entry = entry; }
+
+        public MoodEntry getEntry() { return entry; }
+    }
+
+    public static class ActivityAdded extends DomainEvent {
+        private final String activity;
+
+        public ActivityAdded(String activity) { this.activity = activity; }
+
+        public String getActivity() { return activity; }
+    }
+}
\ No newline at end of file
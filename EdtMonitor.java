@@ -0,0 +1,241 @@
+package com.habittracker.controller;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Diagnostik EDT (opt-in lewat -Dhabittracker.edtMonitor=true). Memasang EventQueue
+ * yang mengukur lama setiap dispatch, dan thread watchdog yang mengambil stack
+ * trace EDT jika satu dispatch melewati ambang batas.
+ */
+public final class EdtMonitor {
+    public static final boolean ENABLED = Boolean.getBoolean("habittracker.edtMonitor");
+    static final long THRESHOLD_MILLIS = Long.getLong("habittracker.edtMonitor.thresholdMillis", 100L);
+    private static final int MAX_STALLS = 50;
+    private static final String UNLABELED = "(other)";
+
+    private static final LatencyHistogram overall = new LatencyHistogram();
+    private static final Map<String, LatencyHistogram> byLabel = new LinkedHashMap<>();
+    private static final Deque<Stall> stalls = new ArrayDeque<>();
+    private static final Map<String, Long> lastValues = new LinkedHashMap<>();
+
+    // Diisi oleh EDT, dibaca watchdog
+    private static volatile Thread edtThread;
+    private static volatile long dispatchStart;
+    private static volatile String currentLabel;
+    private static boolean installed;
+
+    private EdtMonitor() {
+    }
+
+    /**
+     * Memasang monitor jika diaktifkan; aman dipanggil berkali-kali
+     */
+    public static synchronized void installIfEnabled() {
+        if (!ENABLED || installed) return;
+        installed = true;
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new MonitoringEventQueue());
+
+        Thread watchdog = new Thread(EdtMonitor::watch, "habittracker-edt-watchdog");
+        watchdog.setDaemon(true);
+        watchdog.start();
+    }
+
+    /**
+     * Memberi label operasi pada event yang sedang di-dispatch (misalnya "toggleHabit").
+     * Tidak melakukan apa-apa jika monitor tidak aktif atau dipanggil di luar EDT.
+     */
+    public static void label(String operation) {
+        if (ENABLED && Thread.currentThread() == edtThread) currentLabel = operation;
+    }
+
+    /**
+     * Mencatat nilai terakhir sebuah metrik (misalnya lintasan data per render tab Statistics)
+     * untuk ditampilkan di laporan. Tidak melakukan apa-apa jika monitor tidak aktif.
+     */
+    public static void recordValue(String name, long value) {
+        if (!ENABLED) return;
+        synchronized (lastValues) {
+            lastValues.put(name, value);
+        }
+    }
+
+    public static boolean isInstalled() {
+        return installed;
+    }
+
+    /**
+     * Laporan teks: histogram keseluruhan, per label, dan stall terakhir
+     */
+    public static String getReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("EDT monitor report - ").append(LocalDateTime.now()).append('\n');
+        report.append("Stall threshold: ").append(THRESHOLD_MILLIS).append(" ms\n\n");
+        report.append(overall.format("All events")).append('\n');
+
+        synchronized (byLabel) {
+            for (Map.Entry<String, LatencyHistogram> entry : byLabel.entrySet()) {
+                report.append(entry.getValue().format(entry.getKey()));
+            }
+        }
+
+        synchronized (lastValues) {
+            if (!lastValues.isEmpty()) report.append("\nLast values:\n");
+            for (Map.Entry<String, Long> entry : lastValues.entrySet()) {
+                report.append("  ").append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+            }
+        }
+
+        synchronized (stalls) {
+            report.append("\nRecent stalls (").append(stalls.size()).append("):\n");
+            for (Stall stall : stalls) {
+                report.append(stall.format()).append('\n');
+            }
+        }
+        return report.toString();
+    }
+
+    public static void dumpTo(Path file) throws IOException {
+        Files.write(file, getReport().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void dispatchFinished(long nanos, String label) {
+        overall.record(nanos);
+        LatencyHistogram histogram;
+        synchronized (byLabel) {
+            histogram = byLabel.computeIfAbsent(label != null ? label : UNLABELED, key -> new LatencyHistogram());
+        }
+        histogram.record(nanos);
+    }
+
+    private static void watch() {
+        long capturedStart = 0;
+        long interval = Math.max(THRESHOLD_MILLIS / 2, 10);
+        while (true) {
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            long start = dispatchStart;
+            Thread edt = edtThread;
+            if (start == 0 || edt == null || start == capturedStart) continue;
+
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            if (elapsedMillis >= THRESHOLD_MILLIS) {
+                // Satu stack trace per dispatch yang lambat
+                capturedStart = start;
+                Stall stall = new Stall(LocalDateTime.now(), currentLabel, elapsedMillis, edt.getStackTrace());
+                synchronized (stalls) {
+                    if (stalls.size() == MAX_STALLS) stalls.removeFirst();
+                    stalls.addLast(stall);
+                }
+            }
+        }
+    }
+
+    /**
+     * Hanya waktu sibuk yang dihitung. Saat dialog modal memompa event di dalam
+     * dispatch lain, waktu menunggu di getNextEvent dan dispatch bersarang tidak
+     * ditagihkan ke dispatch luar.
+     */
+    private static class MonitoringEventQueue extends EventQueue {
+        private static final int MAX_DEPTH = 16;
+
+        // Per tingkat dispatch (hanya diakses EDT)
+        private final long[] busyNanos = new long[MAX_DEPTH];
+        private final long[] segmentStart = new long[MAX_DEPTH];
+        private final String[] labels = new String[MAX_DEPTH];
+        private int depth;
+
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            edtThread = Thread.currentThread();
+            if (depth == MAX_DEPTH) {
+                super.dispatchEvent(event);
+                return;
+            }
+
+            int level = depth++;
+            long now = System.nanoTime();
+            busyNanos[level] = 0;
+            segmentStart[level] = now;
+            labels[level] = null;
+            currentLabel = null;
+            dispatchStart = now;
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                long end = System.nanoTime();
+                if (currentLabel != null) labels[level] = currentLabel;
+                busyNanos[level] += end - segmentStart[level];
+                String label = labels[level];
+                depth--;
+                dispatchFinished(busyNanos[level], label);
+
+                if (depth > 0) {
+                    // Kembali ke dispatch luar yang sedang menjalankan loop modal
+                    segmentStart[depth - 1] = end;
+                    dispatchStart = end;
+                    currentLabel = labels[depth - 1];
+                } else {
+                    dispatchStart = 0;
+                    currentLabel = null;
+                }
+            }
+        }
+
+        @Override
+        public AWTEvent getNextEvent() throws InterruptedException {
+            if (depth == 0 || Thread.currentThread() != edtThread) return super.getNextEvent();
+
+            // Dispatch luar sedang menunggu event (dialog modal): jeda pengukuran
+            int level = depth - 1;
+            if (currentLabel != null) labels[level] = currentLabel;
+            busyNanos[level] += System.nanoTime() - segmentStart[level];
+            dispatchStart = 0;
+            try {
+                return super.getNextEvent();
+            } finally {
+                long now = System.nanoTime();
+                segmentStart[level] = now;
+                dispatchStart = now;
+            }
+        }
+    }
+
+    private static class Stall {
+        private final LocalDateTime time;
+        private final String label;
+        private final long elapsedMillis;
+        private final StackTraceElement[] stack;
+
+        Stall(LocalDateTime time, String label, long elapsedMillis, StackTraceElement[] stack) {
+            this.time = time;
+            this.label = label;
+            this.elapsedMillis = elapsedMillis;
+            this.stack = stack;
+        }
+
+        String format() {
+            StringBuilder text = new StringBuilder();
+            text.append(time).append("  ").append(label != null ? label : UNLABELED)
+                    .append("  >= ").append(elapsedMillis).append(" ms\n");
+            for (StackTraceElement element : stack) {
+                text.append("    at ").append(element).append('\n');
+            }
+            return text.toString();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.habittracker.service;
+
+import com.habittracker.model.DomainEvent;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Bus event domain di dalam proses, di atas SubmissionPublisher. Setiap subscriber
+ * punya buffer terbatas dan meminta event satu per satu setelah event sebelumnya
+ * selesai diproses di executor-nya. Publish tidak pernah memblokir: jika buffer
+ * subscriber penuh, event dibuang dan subscriber diminta sinkron ulang penuh.
+ */
+public final class EventBus {
+    static final int BUFFER_CAPACITY = 256;
+    private static EventBus instance;
+
+    private final SubmissionPublisher<DomainEvent> publisher;
+
+    private EventBus() {
+        this.publisher = new SubmissionPublisher<>(Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "habittracker-events");
+            thread.setDaemon(true);
+            return thread;
+        }), BUFFER_CAPACITY);
+    }
+
+    public static synchronized EventBus getInstance() {
+        if (instance == null) instance = new EventBus();
+        return instance;
+    }
+
+    public void publish(DomainEvent event) {
+        publisher.offer(event, (subscriber, dropped) -> {
+            ((BusSubscriber) subscriber).overflowed();
+            return false;
+        });
+    }
+
+    /**
+     * Mendaftarkan listener. Event dan onOverflow dijalankan lewat callbackExecutor;
+     * onOverflow berarti ada event yang terlewat dan state harus dimuat ulang.
+     */
+    public Registration subscribe(Consumer<DomainEvent> listener, Runnable onOverflow, Executor callbackExecutor) {
+        BusSubscriber subscriber = new BusSubscriber(listener, onOverflow, callbackExecutor);
+        publisher.subscribe(subscriber);
+        return subscriber;
+    }
+
+    public interface Registration {
+        void cancel();
+    }
+
+    private static class BusSubscriber implements Flow.Subscriber<DomainEvent>, Registration {
+        private final Consumer<DomainEvent> listener;
+        private final Runnable onOverflow;
+        private final Executor executor;
+        private final AtomicBoolean resyncPending = new AtomicBoolean();
+        private volatile Flow.Subscription subscription;
+        private volatile boolean cancelled;
+
+        BusSubscriber(Consumer<DomainEvent> listener, Runnable onOverflow, Executor executor) {
+            this.listener = listener;
+            this.onOverflow = onOverflow;
+            this.executor = executor;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (cancelled) subscription.cancel();
+            else subscription.request(1);
+        }
+
+        @Override
+        public void onNext(DomainEvent event) {
+            // Event berikutnya baru diminta setelah yang ini selesai di executor listener
+            executor.execute(() -> {
+                try {
+                    if (!cancelled) listener.accept(event);
+                } finally {
+                    subscription.request(1);
+                }
+            });
+        }
+
+        void overflowed() {
+            if (resyncPending.compareAndSet(false, true)) {
+                executor.execute(() -> {
+                    resyncPending.set(false);
+                    if (!cancelled) onOverflow.run();
+                });
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throwable.printStackTrace();
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            Flow.Subscription current = subscription;
+            if (current != null) current.cancel();
+        }
+    }
+}
\ No newline at end of file
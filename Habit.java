@@ -1,392 +1,544 @@
-package com.habittracker.model;
-
-import java.io.Serializable;
-import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.TreeSet;
-
-public class Habit implements Serializable {
-    private String id;
-    private String name;
-    private String description;
-    private String category;
-    private String icon;
-    private String color;
-    private LocalDate createdDate;
-    private Set<LocalDate> completedDates;
-    private int currentStreak;
-    private int bestStreak;
-
-    public Habit(String name, String description, String category, String icon, String color) {
-        this.id = java.util.UUID.randomUUID().toString();
-        this.name = name;
-        this.description = description;
-        this.category = category;
-        this.icon = icon;
-        this.color = color;
-        this.createdDate = LocalDate.now();
-        this.completedDates = new HashSet<>();
-        this.currentStreak = 0;
-        this.bestStreak = 0;
-    }
-
-    /**
-     * Menandai habit sebagai selesai untuk hari ini
-     */
-    public void markCompleted() {
-        LocalDate today = LocalDate.now();
-        if (!completedDates.contains(today)) {
-            completedDates.add(today);
-            updateStreaks();
-        }
-    }
-
-    /**
-     * Menghapus centang untuk hari ini
-     */
-    public void unmarkToday() {
-        completedDates.remove(LocalDate.now());
-        updateStreaks();
-    }
-
-    /**
-     * Mengecek apakah habit sudah diselesaikan hari ini
-     */
-    public boolean isCompletedToday() {
-        return completedDates.contains(LocalDate.now());
-    }
-
-    /**
-     * Menghitung dan mengupdate streak
-     */
-    private void updateStreaks() {
-        this.currentStreak = calculateCurrentStreak();
-        this.bestStreak = calculateBestStreak();
-    }
-
-    /**
-     * Menghitung streak saat ini (hari beruntun terakhir)
-     */
-    private int calculateCurrentStreak() {
-        if (completedDates.isEmpty()) {
-            return 0;
-        }
-
-        LocalDate today = LocalDate.now();
-        int streak = 0;
-        LocalDate checkDate = today;
-
-        // Cek berapa hari berturut-turut ke belakang
-        while (completedDates.contains(checkDate)) {
-            streak++;
-            checkDate = checkDate.minusDays(1);
-        }
-
-        return streak;
-    }
-
-    /**
-     * Menghitung streak terbaik sepanjang waktu
-     */
-    private int calculateBestStreak() {
-        if (completedDates.isEmpty()) {
-            return 0;
-        }
-
-        // Konversi ke TreeSet untuk pengurutan
-        TreeSet<LocalDate> sortedDates = new TreeSet<>(completedDates);
-
-        int bestStreak = 1;
-        int currentStreak = 1;
-        LocalDate previousDate = null;
-
-        for (LocalDate date : sortedDates) {
-            if (previousDate != null) {
-                long daysBetween = ChronoUnit.DAYS.between(previousDate, date);
-
-                if (daysBetween == 1) {
-                    // Tanggal berurutan
-                    currentStreak++;
-                    if (currentStreak > bestStreak) {
-                        bestStreak = currentStreak;
-                    }
-                } else if (daysBetween > 1) {
-                    // Ada jeda, reset streak
-                    currentStreak = 1;
-                }
-                // Jika daysBetween == 0, tanggal sama (tidak mungkin dengan Set)
-            }
-            previousDate = date;
-        }
-
-        return Math.max(bestStreak, currentStreak);
-    }
-
-    /**
-     * Menghitung persentase penyelesaian sejak habit dibuat
-     */
-    public double getCompletionPercentage() {
-        if (createdDate == null) {
-            return 0.0;
-        }
-
-        long totalDays = ChronoUnit.DAYS.between(createdDate, LocalDate.now()) + 1;
-        if (totalDays <= 0) {
-            return 0.0;
-        }
-
-        long completedCount = completedDates.stream()
-                .filter(date -> !date.isAfter(LocalDate.now()))
-                .count();
-
-        return (double) completedCount / totalDays * 100;
-    }
-
-    /**
-     * Mengecek apakah habit diselesaikan pada tanggal tertentu
-     */
-    public boolean isCompletedOnDate(LocalDate date) {
-        return completedDates.contains(date);
-    }
-
-    /**
-     * Menghapus semua data penyelesaian
-     */
-    public void clearAllCompletions() {
-        completedDates.clear();
-        updateStreaks();
-    }
-
-    /**
-     * Menghapus penyelesaian pada tanggal tertentu
-     */
-    public void removeCompletion(LocalDate date) {
-        completedDates.remove(date);
-        updateStreaks();
-    }
-
-    /**
-     * Menambah penyelesaian pada tanggal tertentu
-     */
-    public void addCompletion(LocalDate date) {
-        if (date != null && !date.isAfter(LocalDate.now())) {
-            completedDates.add(date);
-            updateStreaks();
-        }
-    }
-
-    /**
-     * Mendapatkan jumlah penyelesaian dalam periode tertentu
-     */
-    public int getCompletionCountBetween(LocalDate startDate, LocalDate endDate) {
-        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
-            return 0;
-        }
-
-        return (int) completedDates.stream()
-                .filter(date -> !date.isBefore(startDate) && !date.isAfter(endDate))
-                .count();
-    }
-
-    /**
-     * Mendapatkan jumlah hari sejak terakhir diselesaikan
-     */
-    public long getDaysSinceLastCompletion() {
-        if (completedDates.isEmpty()) {
-            return -1; // Belum pernah diselesaikan
-        }
-
-        TreeSet<LocalDate> sortedDates = new TreeSet<>(completedDates);
-        LocalDate lastDate = sortedDates.last();
-
-        return ChronoUnit.DAYS.between(lastDate, LocalDate.now());
-    }
-
-    /**
-     * Mendapatkan tanggal penyelesaian pertama
-     */
-    public LocalDate getFirstCompletionDate() {
-        if (completedDates.isEmpty()) {
-            return null;
-        }
-
-        TreeSet<LocalDate> sortedDates = new TreeSet<>(completedDates);
-        return sortedDates.first();
-    }
-
-    /**
-     * Mendapatkan tanggal penyelesaian terakhir
-     */
-    public LocalDate getLastCompletionDate() {
-        if (completedDates.isEmpty()) {
-            return null;
-        }
-
-        TreeSet<LocalDate> sortedDates = new TreeSet<>(completedDates);
-        return sortedDates.last();
-    }
-
-    // ==================== GETTERS & SETTERS ====================
-
-    public String getId() {
-        return id;
-    }
-
-    public String getName() {
-        return name;
-    }
-
-    public void setName(String name) {
-        this.name = name;
-    }
-
-    public String getDescription() {
-        return description;
-    }
-
-    public void setDescription(String description) {
-        this.description = description;
-    }
-
-    public String getCategory() {
-        return category;
-    }
-
-    public void setCategory(String category) {
-        this.category = category;
-    }
-
-    public String getIcon() {
-        return icon;
-    }
-
-    public void setIcon(String icon) {
-        this.icon = icon;
-    }
-
-    public String getColor() {
-        return color;
-    }
-
-    public void setColor(String color) {
-        this.color = color;
-    }
-
-    public LocalDate getCreatedDate() {
-        return createdDate;
-    }
-
-    public Set<LocalDate> getCompletedDates() {
-        return new HashSet<>(completedDates);
-    }
-
-    public int getCurrentStreak() {
-        return calculateCurrentStreak(); // Selalu hitung secara real-time
-    }
-
-    public int getBestStreak() {
-        return calculateBestStreak(); // Selalu hitung secara real-time
-    }
-
-    /**
-     * Getter kompatibilitas untuk UI
-     */
-    public boolean getCompletedStatus() {
-        return isCompletedToday();
-    }
-
-    /**
-     * Mendapatkan total jumlah penyelesaian
-     */
-    public int getTotalCompletions() {
-        return completedDates.size();
-    }
-
-    /**
-     * Mendapatkan usia habit dalam hari
-     */
-    public long getAgeInDays() {
-        if (createdDate == null) {
-            return 0;
-        }
-
-        return ChronoUnit.DAYS.between(createdDate, LocalDate.now());
-    }
-
-    /**
-     * Mendapatkan konsistensi habit (persentase penyelesaian sejak dibuat)
-     */
-    public double getConsistency() {
-        return getCompletionPercentage();
-    }
-
-    /**
-     * Mengecek apakah habit aktif (diselesaikan dalam 7 hari terakhir)
-     */
-    public boolean isActive() {
-        LocalDate weekAgo = LocalDate.now().minusDays(7);
-        return completedDates.stream()
-                .anyMatch(date -> !date.isBefore(weekAgo));
-    }
-
-    /**
-     * Mendapatkan frekuensi penyelesaian per minggu
-     */
-    public double getWeeklyFrequency() {
-        long ageInWeeks = getAgeInDays() / 7;
-        if (ageInWeeks == 0) {
-            ageInWeeks = 1;
-        }
-
-        return (double) completedDates.size() / ageInWeeks;
-    }
-
-    // ==================== TO STRING & EQUALS ====================
-
-    @Override
-    public String toString() {
-        return String.format(
-                "Habit{id='%s', name='%s', category='%s', currentStreak=%d, bestStreak=%d, completions=%d}",
-                id.substring(0, 8), name, category, getCurrentStreak(), getBestStreak(), completedDates.size()
-        );
-    }
-
-    @Override
-    public boolean equals(Object obj) {
-        if (this == obj) return true;
-        if (obj == null || getClass() != obj.getClass()) return false;
-        Habit habit = (Habit) obj;
-        return id.equals(habit.id);
-    }
-
-    @Override
-    public int hashCode() {
-        return id.hashCode();
-    }
-
-    /**
-     * Method untuk debugging
-     */
-    public String getDebugInfo() {
-        return String.format(
-                "Habit: %s\n" +
-                        "Created: %s\n" +
-                        "Total Completions: %d\n" +
-                        "Current Streak: %d\n" +
-                        "Best Streak: %d\n" +
-                        "Completion Percentage: %.1f%%\n" +
-                        "Active: %s\n" +
-                        "Weekly Frequency: %.2f times/week",
-                name,
-                createdDate,
-                completedDates.size(),
-                getCurrentStreak(),
-                getBestStreak(),
-                getCompletionPercentage(),
-                isActive(),
-                getWeeklyFrequency()
-        );
-    }
+package com.habittracker.model;
+
+import java.io.*;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+public class Habit implements Serializable {
+    // Sama dengan UID hasil hitungan versi lama agar appdata.ser yang ada tetap terbaca
+    private static final long serialVersionUID = 6010236906579833338L;
+
+    // completedDates hanya dibaca dari data lama; data baru disimpan sebagai bitmap
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("id", String.class),
+            new ObjectStreamField("name", String.class),
+            new ObjectStreamField("description", String.class),
+            new ObjectStreamField("category", String.class),
+            new ObjectStreamField("icon", String.class),
+            new ObjectStreamField("color", String.class),
+            new ObjectStreamField("createdDate", LocalDate.class),
+            new ObjectStreamField("completedDates", Set.class),
+            new ObjectStreamField("completions", DayBitmap.class),
+            new ObjectStreamField("currentStreak", int.class),
+            new ObjectStreamField("bestStreak", int.class)
+    };
+
+    private String id;
+    private String name;
+    private String description;
+    private String category;
+    private String icon;
+    private String color;
+    private LocalDate createdDate;
+    private DayBitmap completions;
+    private int currentStreak;
+    private int bestStreak;
+    // Hari (epoch day) saat currentStreak terakhir dihitung; beda hari berarti perlu rollover
+    private transient long streakDay;
+
+    public Habit(String name, String description, String category, String icon, String color) {
+        this(java.util.UUID.randomUUID().toString(), name, description, category, icon, color, LocalDate.now());
+    }
+
+    /**
+     * Habit dengan id dan tanggal dibuat tertentu (misalnya data yang diimpor atau dibangkitkan)
+     */
+    public Habit(String id, String name, String description, String category, String icon, String color,
+                 LocalDate createdDate) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.category = category;
+        this.icon = icon;
+        this.color = color;
+        this.createdDate = createdDate;
+        this.completions = new DayBitmap(createdDate.toEpochDay());
+        this.currentStreak = 0;
+        this.bestStreak = 0;
+        this.streakDay = createdDate.toEpochDay();
+    }
+
+    /**
+     * Habit hasil baca snapshot. completionBits berformat sama dengan getCompletionBits:
+     * bit 0 = firstDay. Streak dihitung ulang seperti saat deserialisasi.
+     */
+    public Habit(String id, String name, String description, String category, String icon, String color,
+                 LocalDate createdDate, long firstDay, long[] completionBits) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.category = category;
+        this.icon = icon;
+        this.color = color;
+        this.createdDate = createdDate;
+        this.completions = new DayBitmap(firstDay, completionBits);
+        this.bestStreak = calculateBestStreak();
+        this.streakDay = Long.MIN_VALUE;
+    }
+
+    /**
+     * Seperti konstruktor di atas, tetapi bitmap dibaca langsung dari buffer (misalnya
+     * snapshot yang di-map) dan baru disalin ke heap saat habit pertama kali diubah
+     */
+    public Habit(String id, String name, String description, String category, String icon, String color,
+                 LocalDate createdDate, long firstDay, java.nio.LongBuffer completionBits) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.category = category;
+        this.icon = icon;
+        this.color = color;
+        this.createdDate = createdDate;
+        this.completions = new DayBitmap(firstDay, completionBits);
+        this.bestStreak = calculateBestStreak();
+        this.streakDay = Long.MIN_VALUE;
+    }
+
+    /**
+     * Menandai habit sebagai selesai untuk hari ini
+     */
+    public void markCompleted() {
+        addDay(LocalDate.now().toEpochDay());
+    }
+
+    /**
+     * Menghapus centang untuk hari ini
+     */
+    public void unmarkToday() {
+        removeDay(LocalDate.now().toEpochDay());
+    }
+
+    /**
+     * Mengecek apakah habit sudah diselesaikan hari ini
+     */
+    public boolean isCompletedToday() {
+        return completions.contains(LocalDate.now().toEpochDay());
+    }
+
+    /**
+     * Menghitung ulang streak saat ini untuk hari baru. Dipanggil otomatis
+     * saat tanggal berganti, atau eksplisit oleh penjadwal harian.
+     */
+    public void rollOver(LocalDate today) {
+        this.streakDay = today.toEpochDay();
+        this.currentStreak = calculateCurrentStreak();
+    }
+
+    /**
+     * Menambah satu hari dan memperbarui streak secara inkremental
+     */
+    private void addDay(long day) {
+        if (!completions.add(day)) {
+            return;
+        }
+
+        // Deretan baru = deretan yang berakhir di day + deretan yang dimulai di day
+        int run = completions.runEndingAt(day) + completions.runStartingAt(day) - 1;
+        bestStreak = Math.max(bestStreak, run);
+
+        long today = LocalDate.now().toEpochDay();
+        if (streakDay == today && day <= today && day >= today - currentStreak) {
+            currentStreak = completions.runEndingAt(today);
+        }
+    }
+
+    /**
+     * Menghapus satu hari dan memperbarui streak secara inkremental
+     */
+    private void removeDay(long day) {
+        if (!completions.contains(day)) {
+            return;
+        }
+
+        int run = completions.runEndingAt(day) + completions.runStartingAt(day) - 1;
+        completions.remove(day);
+
+        // Best streak hanya bisa turun jika deretan yang terpotong adalah deretan terpanjang
+        if (run >= bestStreak) {
+            bestStreak = calculateBestStreak();
+        }
+
+        long today = LocalDate.now().toEpochDay();
+        if (streakDay == today && day <= today && day > today - currentStreak) {
+            currentStreak = (int) (today - day);
+        }
+    }
+
+    /**
+     * Menghitung streak saat ini (hari beruntun terakhir)
+     */
+    private int calculateCurrentStreak() {
+        // Hitung hari berturut-turut ke belakang mulai hari ini
+        return completions.runEndingAt(LocalDate.now().toEpochDay());
+    }
+
+    /**
+     * Menghitung streak terbaik sepanjang waktu
+     */
+    private int calculateBestStreak() {
+        // Bitmap sudah terurut, deretan terpanjang dicari per word
+        return completions.longestRun();
+    }
+
+    /**
+     * Menghitung persentase penyelesaian sejak habit dibuat
+     */
+    public double getCompletionPercentage() {
+        if (createdDate == null) {
+            return 0.0;
+        }
+
+        long totalDays = ChronoUnit.DAYS.between(createdDate, LocalDate.now()) + 1;
+        if (totalDays <= 0) {
+            return 0.0;
+        }
+
+        long completedCount = completions.countBetween(Long.MIN_VALUE, LocalDate.now().toEpochDay());
+
+        return (double) completedCount / totalDays * 100;
+    }
+
+    /**
+     * Mengecek apakah habit diselesaikan pada tanggal tertentu
+     */
+    public boolean isCompletedOnDate(LocalDate date) {
+        return date != null && completions.contains(date.toEpochDay());
+    }
+
+    /**
+     * Bit penyelesaian untuk beberapa hari mulai dari tanggal tertentu (bit 0 = from)
+     */
+    public long[] getCompletionBits(LocalDate from, int days) {
+        return completions.extract(from.toEpochDay(), days);
+    }
+
+    /**
+     * Menghapus semua data penyelesaian
+     */
+    public void clearAllCompletions() {
+        completions.clear();
+        currentStreak = 0;
+        bestStreak = 0;
+    }
+
+    /**
+     * Menghapus penyelesaian pada tanggal tertentu
+     */
+    public void removeCompletion(LocalDate date) {
+        if (date != null) removeDay(date.toEpochDay());
+    }
+
+    /**
+     * Menambah penyelesaian pada tanggal tertentu
+     */
+    public void addCompletion(LocalDate date) {
+        if (date != null && !date.isAfter(LocalDate.now())) {
+            addDay(date.toEpochDay());
+        }
+    }
+
+    /**
+     * Mendapatkan jumlah penyelesaian dalam periode tertentu
+     */
+    public int getCompletionCountBetween(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            return 0;
+        }
+
+        return completions.countBetween(startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
+    /**
+     * Mendapatkan jumlah hari sejak terakhir diselesaikan
+     */
+    public long getDaysSinceLastCompletion() {
+        if (completions.isEmpty()) {
+            return -1; // Belum pernah diselesaikan
+        }
+
+        return LocalDate.now().toEpochDay() - completions.lastDay();
+    }
+
+    /**
+     * Menambahkan delta ke counts[hari - fromDay] untuk setiap hari selesai di dalam array,
+     * langsung dari bitmap tanpa membuat LocalDate
+     */
+    public void addCompletionCounts(int[] counts, long fromDay, int delta) {
+        completions.addCounts(counts, fromDay, delta);
+    }
+
+    /**
+     * Mendapatkan tanggal penyelesaian pertama
+     */
+    public LocalDate getFirstCompletionDate() {
+        if (completions.isEmpty()) {
+            return null;
+        }
+
+        return LocalDate.ofEpochDay(completions.firstDay());
+    }
+
+    /**
+     * Mendapatkan tanggal penyelesaian terakhir
+     */
+    public LocalDate getLastCompletionDate() {
+        if (completions.isEmpty()) {
+            return null;
+        }
+
+        return LocalDate.ofEpochDay(completions.lastDay());
+    }
+
+    // ==================== GETTERS & SETTERS ====================
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public String getIcon() {
+        return icon;
+    }
+
+    public void setIcon(String icon) {
+        this.icon = icon;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public void setColor(String color) {
+        this.color = color;
+    }
+
+    public LocalDate getCreatedDate() {
+        return createdDate;
+    }
+
+    /**
+     * View read-only di atas bitmap; tidak menyalin data
+     */
+    public Set<LocalDate> getCompletedDates() {
+        return new CompletedDatesView();
+    }
+
+    public int getCurrentStreak() {
+        LocalDate today = LocalDate.now();
+        if (streakDay != today.toEpochDay()) {
+            rollOver(today);
+        }
+        return currentStreak;
+    }
+
+    public int getBestStreak() {
+        return bestStreak;
+    }
+
+    /**
+     * Getter kompatibilitas untuk UI
+     */
+    public boolean getCompletedStatus() {
+        return isCompletedToday();
+    }
+
+    /**
+     * Mendapatkan total jumlah penyelesaian
+     */
+    public int getTotalCompletions() {
+        return completions.size();
+    }
+
+    /**
+     * Mendapatkan usia habit dalam hari
+     */
+    public long getAgeInDays() {
+        if (createdDate == null) {
+            return 0;
+        }
+
+        return ChronoUnit.DAYS.between(createdDate, LocalDate.now());
+    }
+
+    /**
+     * Mendapatkan konsistensi habit (persentase penyelesaian sejak dibuat)
+     */
+    public double getConsistency() {
+        return getCompletionPercentage();
+    }
+
+    /**
+     * Mengecek apakah habit aktif (diselesaikan dalam 7 hari terakhir)
+     */
+    public boolean isActive() {
+        long weekAgo = LocalDate.now().minusDays(7).toEpochDay();
+        return !completions.isEmpty() && completions.lastDay() >= weekAgo;
+    }
+
+    /**
+     * Mendapatkan frekuensi penyelesaian per minggu
+     */
+    public double getWeeklyFrequency() {
+        long ageInWeeks = getAgeInDays() / 7;
+        if (ageInWeeks == 0) {
+            ageInWeeks = 1;
+        }
+
+        return (double) completions.size() / ageInWeeks;
+    }
+
+    // ==================== SERIALIZATION ====================
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("id", id);
+        fields.put("name", name);
+        fields.put("description", description);
+        fields.put("category", category);
+        fields.put("icon", icon);
+        fields.put("color", color);
+        fields.put("createdDate", createdDate);
+        fields.put("completedDates", null);
+        fields.put("completions", completions);
+        fields.put("currentStreak", currentStreak);
+        fields.put("bestStreak", bestStreak);
+        out.writeFields();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        id = (String) fields.get("id", null);
+        name = (String) fields.get("name", null);
+        description = (String) fields.get("description", null);
+        category = (String) fields.get("category", null);
+        icon = (String) fields.get("icon", null);
+        color = (String) fields.get("color", null);
+        createdDate = (LocalDate) fields.get("createdDate", null);
+        completions = (DayBitmap) fields.get("completions", null);
+        currentStreak = fields.get("currentStreak", 0);
+
+        if (completions == null) {
+            // Format lama: konversi HashSet<LocalDate> ke bitmap
+            LocalDate base = createdDate != null ? createdDate : LocalDate.now();
+            completions = new DayBitmap(base.toEpochDay());
+            Set<LocalDate> legacyDates = (Set<LocalDate>) fields.get("completedDates", null);
+            if (legacyDates != null) {
+                for (LocalDate date : legacyDates) completions.add(date.toEpochDay());
+            }
+        }
+
+        // Streak tersimpan bisa basi; hitung sekali saat dimuat, setelah itu inkremental
+        bestStreak = calculateBestStreak();
+        streakDay = Long.MIN_VALUE;
+    }
+
+    // ==================== TO STRING & EQUALS ====================
+
+    @Override
+    public String toString() {
+        return String.format(
+                "Habit{id='%s', name='%s', category='%s', currentStreak=%d, bestStreak=%d, completions=%d}",
+                id.substring(0, 8), name, category, getCurrentStreak(), getBestStreak(), completions.size()
+        );
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Habit habit = (Habit) obj;
+        return id.equals(habit.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    /**
+     * Method untuk debugging
+     */
+    public String getDebugInfo() {
+        return String.format(
+                "Habit: %s\n" +
+                        "Created: %s\n" +
+                        "Total Completions: %d\n" +
+                        "Current Streak: %d\n" +
+                        "Best Streak: %d\n" +
+                        "Completion Percentage: %.1f%%\n" +
+                        "Active: %s\n" +
+                        "Weekly Frequency: %.2f times/week",
+                name,
+                createdDate,
+                completions.size(),
+                getCurrentStreak(),
+                getBestStreak(),
+                getCompletionPercentage(),
+                isActive(),
+                getWeeklyFrequency()
+        );
+    }
+
+    /**
+     * Set tanggal yang langsung membaca bitmap
+     */
+    private class CompletedDatesView extends AbstractSet<LocalDate> {
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof LocalDate && completions.contains(((LocalDate) o).toEpochDay());
+        }
+
+        @Override
+        public int size() {
+            return completions.size();
+        }
+
+        @Override
+        public Iterator<LocalDate> iterator() {
+            return new Iterator<LocalDate>() {
+                private long next = completions.isEmpty() ? Long.MAX_VALUE : completions.firstDay();
+
+                @Override
+                public boolean hasNext() {
+                    return next != Long.MAX_VALUE;
+                }
+
+                @Override
+                public LocalDate next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    LocalDate date = LocalDate.ofEpochDay(next);
+                    next = completions.nextDay(next + 1);
+                    return date;
+                }
+            };
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package com.habittracker.service;
+
+import com.habittracker.model.Habit;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Agregat dashboard yang diperbarui setiap kali habit dicentang, ditambah,
+ * atau dihapus, sehingga statistik tidak perlu memindai seluruh riwayat.
+ * Satu instance dibagikan lewat AppRepository; seperti AppData, hanya diubah di EDT.
+ */
+public class HabitAggregates {
+    private int habitCount;
+    private int totalCompletions;
+    // dailyCompletions[i] = jumlah habit yang selesai pada hari originDay + i
+    private long originDay;
+    private int[] dailyCompletions = new int[0];
+    private final Map<String, Integer> categoryCompletions = new HashMap<>();
+    private final Map<String, Integer> categoryHabitCounts = new HashMap<>();
+
+    /**
+     * Membangun ulang semua agregat; hitungan harian diisi per word dari bitmap setiap habit
+     */
+    public void rebuild(List<Habit> habits) {
+        habitCount = 0;
+        totalCompletions = 0;
+        categoryCompletions.clear();
+        categoryHabitCounts.clear();
+        DataPassCounter.record();
+
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        for (Habit habit : habits) {
+            if (habit.getTotalCompletions() == 0) continue;
+            first = Math.min(first, habit.getFirstCompletionDate().toEpochDay());
+            last = Math.max(last, habit.getLastCompletionDate().toEpochDay());
+        }
+        originDay = first <= last ? first : 0;
+        dailyCompletions = new int[first <= last ? (int) (last - first + 1) : 0];
+
+        for (Habit habit : habits) habitAdded(habit);
+    }
+
+    public void habitAdded(Habit habit) {
+        habitCount++;
+        categoryHabitCounts.merge(habit.getCategory(), 1, Integer::sum);
+        addCompletions(habit, 1);
+    }
+
+    public void habitRemoved(Habit habit) {
+        addCompletions(habit, -1);
+        habitCount--;
+        String category = habit.getCategory();
+        if (categoryHabitCounts.merge(category, -1, Integer::sum) <= 0) {
+            categoryHabitCounts.remove(category);
+            categoryCompletions.remove(category);
+        }
+    }
+
+    public void completionChanged(Habit habit, LocalDate date, boolean added) {
+        int delta = added ? 1 : -1;
+        totalCompletions += delta;
+        categoryCompletions.merge(habit.getCategory(), delta, Integer::sum);
+        long day = date.toEpochDay();
+        ensureCovers(day, day);
+        dailyCompletions[(int) (day - originDay)] += delta;
+    }
+
+    public int getHabitCount() { return habitCount; }
+
+    public int getTotalCompletions() { return totalCompletions; }
+
+    public int getCompletionsOn(LocalDate date) {
+        long index = date.toEpochDay() - originDay;
+        return index >= 0 && index < dailyCompletions.length ? dailyCompletions[(int) index] : 0;
+    }
+
+    /**
+     * Jumlah penyelesaian semua habit dalam rentang [start, end]; O(jumlah hari)
+     */
+    public int getCompletionsBetween(LocalDate start, LocalDate end) {
+        long from = Math.max(start.toEpochDay() - originDay, 0);
+        long to = Math.min(end.toEpochDay() - originDay, dailyCompletions.length - 1L);
+        int total = 0;
+        for (long i = from; i <= to; i++) {
+            total += dailyCompletions[(int) i];
+        }
+        return total;
+    }
+
+    public Map<String, Integer> getCategoryCompletions() {
+        return java.util.Collections.unmodifiableMap(categoryCompletions);
+    }
+
+    private void addCompletions(Habit habit, int delta) {
+        int count = habit.getTotalCompletions();
+        categoryCompletions.merge(habit.getCategory(), delta * count, Integer::sum);
+        if (count == 0) return;
+        totalCompletions += delta * count;
+        ensureCovers(habit.getFirstCompletionDate().toEpochDay(), habit.getLastCompletionDate().toEpochDay());
+        habit.addCompletionCounts(dailyCompletions, originDay, delta);
+    }
+
+    // Melebarkan array harian agar mencakup [firstDay, lastDay]
+    private void ensureCovers(long firstDay, long lastDay) {
+        if (dailyCompletions.length == 0) {
+            originDay = firstDay;
+            dailyCompletions = new int[(int) (lastDay - firstDay + 1)];
+            return;
+        }
+        long newOrigin = Math.min(originDay, firstDay);
+        long newEnd = Math.max(originDay + dailyCompletions.length - 1, lastDay);
+        if (newOrigin == originDay && newEnd == originDay + dailyCompletions.length - 1) return;
+
+        int[] grown = new int[(int) (newEnd - newOrigin + 1)];
+        System.arraycopy(dailyCompletions, 0, grown, (int) (originDay - newOrigin), dailyCompletions.length);
+        dailyCompletions = grown;
+        originDay = newOrigin;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,172 @@
+package com.habittracker.view;
+
+import com.habittracker.model.Habit;
+import javax.swing.*;
+import javax.swing.border.Border;
+import java.awt.*;
+
+/**
+ * Menggambar satu kartu habit untuk JList. Satu set komponen dipakai ulang untuk
+ * semua baris; hanya baris yang terlihat yang digambar.
+ */
+public class HabitCardRenderer implements ListCellRenderer<Habit> {
+    // Jarak antar kartu, sama dengan strut 15px pada tampilan sebelumnya
+    private static final int CARD_GAP = 15;
+
+    // Border kartu dibuat sekali; render hanya menukar referensinya
+    private static final Border CARD_BORDER = cardBorder(new Color(200, 220, 240));
+    private static final Border FOCUSED_CARD_BORDER = cardBorder(new Color(100, 149, 237));
+
+    private final JPanel cell;
+    private final JPanel card;
+    private final JCheckBox checkBox;
+    private final JLabel nameLabel;
+    private final JLabel descLabel;
+    private final JLabel currentValue;
+    private final JLabel bestValue;
+    private final JButton deleteButton;
+
+    public HabitCardRenderer() {
+        card = new JPanel(new BorderLayout());
+        card.setBackground(Color.WHITE);
+        card.setBorder(CARD_BORDER);
+
+        // Left Side: Checkbox and Info
+        JPanel leftPanel = new JPanel(new BorderLayout());
+        leftPanel.setBackground(Color.WHITE);
+
+        checkBox = new JCheckBox();
+        checkBox.setBackground(Color.WHITE);
+
+        JPanel infoPanel = new JPanel(new GridLayout(2, 1, 5, 5));
+        infoPanel.setBackground(Color.WHITE);
+
+        nameLabel = new JLabel(" ");
+        nameLabel.setFont(new Font("Arial", Font.BOLD, 14));
+        nameLabel.setForeground(new Color(70, 130, 180));
+
+        descLabel = new JLabel(" ");
+        descLabel.setFont(new Font("Arial", Font.PLAIN, 12));
+        descLabel.setForeground(Color.GRAY);
+
+        infoPanel.add(nameLabel);
+        infoPanel.add(descLabel);
+
+        leftPanel.add(checkBox, BorderLayout.WEST);
+        leftPanel.add(Box.createHorizontalStrut(15), BorderLayout.CENTER);
+        leftPanel.add(infoPanel, BorderLayout.EAST);
+
+        // Right Side: Streaks and Delete Button
+        JPanel rightPanel = new JPanel(new BorderLayout());
+        rightPanel.setBackground(Color.WHITE);
+
+        JPanel streakPanel = new JPanel(new GridLayout(2, 2, 10, 5));
+        streakPanel.setBackground(Color.WHITE);
+
+        JLabel currentLabel = new JLabel("Current Streak:");
+        currentLabel.setFont(new Font("Arial", Font.BOLD, 11));
+        currentLabel.setForeground(Color.DARK_GRAY);
+
+        currentValue = new JLabel("0");
+        currentValue.setFont(new Font("Arial", Font.BOLD, 14));
+        currentValue.setForeground(new Color(100, 149, 237));
+        currentValue.setHorizontalAlignment(SwingConstants.CENTER);
+
+        JLabel bestLabel = new JLabel("Best Streak:");
+        bestLabel.setFont(new Font("Arial", Font.BOLD, 11));
+        bestLabel.setForeground(Color.DARK_GRAY);
+
+        bestValue = new JLabel("0");
+        bestValue.setFont(new Font("Arial", Font.BOLD, 14));
+        bestValue.setForeground(new Color(30, 144, 255));
+        bestValue.setHorizontalAlignment(SwingConstants.CENTER);
+
+        streakPanel.add(currentLabel);
+        streakPanel.add(currentValue);
+        streakPanel.add(bestLabel);
+        streakPanel.add(bestValue);
+
+        Color deleteColor = new Color(255, 200, 200);
+        deleteButton = new JButton("🗑 Delete");
+        deleteButton.setFont(new Font("Arial", Font.PLAIN, 11));
+        deleteButton.setBackground(deleteColor);
+        deleteButton.setForeground(Color.BLACK);
+        deleteButton.setFocusPainted(false);
+        deleteButton.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(deleteColor.darker(), 1),
+                BorderFactory.createEmptyBorder(10, 20, 10, 20)
+        ));
+        deleteButton.setPreferredSize(new Dimension(80, 30));
+
+        rightPanel.add(streakPanel, BorderLayout.CENTER);
+        rightPanel.add(deleteButton, BorderLayout.EAST);
+
+        card.add(leftPanel, BorderLayout.CENTER);
+        card.add(rightPanel, BorderLayout.EAST);
+
+        cell = new JPanel(new BorderLayout());
+        cell.setBackground(Color.WHITE);
+        cell.setBorder(BorderFactory.createEmptyBorder(0, 0, CARD_GAP, 0));
+        cell.add(card, BorderLayout.CENTER);
+    }
+
+    @Override
+    public Component getListCellRendererComponent(JList<? extends Habit> list, Habit habit, int index,
+                                                  boolean isSelected, boolean cellHasFocus) {
+        checkBox.setSelected(habit.isCompletedToday());
+        nameLabel.setText("📌 " + habit.getName());
+        String description = habit.getDescription();
+        descLabel.setText(description == null || description.isEmpty() ? " " : description);
+        currentValue.setText(String.valueOf(habit.getCurrentStreak()));
+        bestValue.setText(String.valueOf(habit.getBestStreak()));
+        card.setBorder(isSelected && cellHasFocus ? FOCUSED_CARD_BORDER : CARD_BORDER);
+        return cell;
+    }
+
+    private static Border cardBorder(Color lineColor) {
+        return BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(lineColor, 2),
+                BorderFactory.createEmptyBorder(15, 15, 15, 15)
+        );
+    }
+
+    /**
+     * Tinggi tetap setiap baris, supaya JList tidak perlu mengukur semua habit
+     */
+    public int getCellHeight() {
+        return cell.getPreferredSize().height;
+    }
+
+    public boolean isCheckBoxAt(JList<Habit> list, int index, Point point) {
+        return componentAt(list, index, point) == checkBox;
+    }
+
+    public boolean isDeleteButtonAt(JList<Habit> list, int index, Point point) {
+        return componentAt(list, index, point) == deleteButton;
+    }
+
+    // Komponen renderer di bawah titik klik (koordinat JList) untuk baris tertentu
+    private Component componentAt(JList<Habit> list, int index, Point point) {
+        Rectangle bounds = list.getCellBounds(index, index);
+        if (bounds == null || !bounds.contains(point)) return null;
+
+        getListCellRendererComponent(list, list.getModel().getElementAt(index), index, false, false);
+        cell.setBounds(0, 0, bounds.width, bounds.height);
+        layoutTree(cell);
+
+        Component hit = SwingUtilities.getDeepestComponentAt(cell, point.x - bounds.x, point.y - bounds.y);
+        while (hit != null && hit != checkBox && hit != deleteButton) {
+            hit = hit.getParent();
+        }
+        return hit;
+    }
+
+    // Renderer tidak ada di hierarki komponen, jadi layout dilakukan manual
+    private static void layoutTree(Component component) {
+        if (component instanceof Container) {
+            Container container = (Container) component;
+            container.doLayout();
+            for (Component child : container.getComponents()) layoutTree(child);
+        }
+    }
+}
\ No newline at end of file
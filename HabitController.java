@@ -1,20 +1,86 @@
 package com.habittracker.controller;
 
+import com.habittracker.service.EventBus;
 import com.habittracker.service.HabitService;
+import com.habittracker.model.DashboardSnapshot;
+import com.habittracker.model.DomainEvent;
 import com.habittracker.model.Habit;
 import java.util.List;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public class HabitController {
     private HabitService habitService;
+    private Consumer<LocalDate> dayChangeListener;
+    private EventBus.Registration eventRegistration;
     public HabitController() { this.habitService = new HabitService(); }
     public List<Habit> getAllHabits() { return habitService.getAllHabits(); }
-    public void addHabit(Habit habit) { habitService.addHabit(habit); }
-    public void toggleHabit(String habitId) { habitService.toggleHabit(habitId); }
-    public void deleteHabit(String habitId) { habitService.deleteHabit(habitId); }
+    public void addHabit(Habit habit) {
+        EdtMonitor.label("addHabit");
+        habitService.addHabit(habit);
+    }
+    public void toggleHabit(String habitId) {
+        EdtMonitor.label("toggleHabit");
+        habitService.toggleHabit(habitId);
+    }
+    public void deleteHabit(String habitId) {
+        EdtMonitor.label("deleteHabit");
+        habitService.deleteHabit(habitId);
+    }
     public double getDailyProgress() { return habitService.getDailyProgress(); }
     public int getTotalStreak() { return habitService.getAllHabits().stream().mapToInt(Habit::getCurrentStreak).sum(); }
     public int getHabitCount() { return habitService.getAllHabits().size(); }
-    public void shutdown() { habitService.shutdown(); }
+    public void shutdown() {
+        removeDayChangeListener();
+        unsubscribeEvents();
+        habitService.shutdown();
+    }
+    /** Versi seluruh data (habit dan mood); berubah setiap ada perubahan */
+    public long getDataVersion() { return habitService.getDataVersion(); }
+    /** Menghentikan service dan menunggu journal tertulis di thread I/O */
+    public CompletableFuture<Void> shutdownAsync() {
+        removeDayChangeListener();
+        unsubscribeEvents();
+        return AsyncTasks.runIo(habitService::shutdown);
+    }
+
+    /**
+     * Saat tanggal berganti: streak di-roll over lalu uiListener dipanggil, keduanya di EDT.
+     * Hanya satu listener per controller.
+     */
+    public void setDayChangeListener(Consumer<LocalDate> uiListener) {
+        removeDayChangeListener();
+        dayChangeListener = today -> {
+            EdtMonitor.label("dayRollover");
+            habitService.rollOver(today);
+            uiListener.accept(today);
+        };
+        habitService.addDayChangeListener(dayChangeListener, AsyncTasks.edtExecutor());
+    }
+
+    /**
+     * Event domain (habit dan mood) dikirim ke listener di EDT, satu per satu.
+     * onResync dipanggil jika listener tertinggal dan ada event yang dibuang.
+     */
+    public void subscribeEvents(Consumer<DomainEvent> listener, Runnable onResync) {
+        unsubscribeEvents();
+        eventRegistration = habitService.subscribeEvents(listener, onResync, AsyncTasks.edtExecutor());
+    }
+
+    public void unsubscribeEvents() {
+        if (eventRegistration != null) {
+            eventRegistration.cancel();
+            eventRegistration = null;
+        }
+    }
+
+    public void removeDayChangeListener() {
+        if (dayChangeListener != null) {
+            habitService.removeDayChangeListener(dayChangeListener);
+            dayChangeListener = null;
+        }
+    }
 
     public int getTodayCompletions() {
         return habitService.getTodayCompletions();
@@ -38,4 +104,9 @@ public class HabitController {
     public String getMostProductiveCategory() {
         return habitService.getMostProductiveCategory();
     }
+
+    public DashboardSnapshot.HabitStats getDashboardStats() {
+        EdtMonitor.label("habitDashboardStats");
+        return habitService.getDashboardStats();
+    }
 }
\ No newline at end of file
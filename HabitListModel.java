@@ -0,0 +1,71 @@
+package com.habittracker.view;
+
+import com.habittracker.model.Habit;
+import javax.swing.AbstractListModel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model untuk daftar habit. Perubahan dilaporkan per baris sehingga JList
+ * hanya menggambar ulang baris yang berubah.
+ */
+public class HabitListModel extends AbstractListModel<Habit> {
+    private static final long serialVersionUID = 1L;
+
+    private final List<Habit> habits = new ArrayList<>();
+
+    @Override
+    public int getSize() {
+        return habits.size();
+    }
+
+    @Override
+    public Habit getElementAt(int index) {
+        return habits.get(index);
+    }
+
+    /**
+     * Indeks baris untuk habit dengan id tersebut, -1 jika tidak ada
+     */
+    public int indexOf(String habitId) {
+        for (int i = 0; i < habits.size(); i++) {
+            if (habits.get(i).getId().equals(habitId)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Mengganti seluruh isi model (misalnya setelah data dimuat ulang)
+     */
+    public void setHabits(List<Habit> newHabits) {
+        int oldSize = habits.size();
+        habits.clear();
+        if (oldSize > 0) fireIntervalRemoved(this, 0, oldSize - 1);
+        habits.addAll(newHabits);
+        if (!habits.isEmpty()) fireIntervalAdded(this, 0, habits.size() - 1);
+    }
+
+    public void add(Habit habit) {
+        habits.add(habit);
+        fireIntervalAdded(this, habits.size() - 1, habits.size() - 1);
+    }
+
+    public void remove(int index) {
+        habits.remove(index);
+        fireIntervalRemoved(this, index, index);
+    }
+
+    /**
+     * Memberi tahu bahwa isi satu baris berubah (centang, streak)
+     */
+    public void rowChanged(int index) {
+        fireContentsChanged(this, index, index);
+    }
+
+    /**
+     * Semua baris berubah tampilan tanpa perubahan jumlah (misalnya saat ganti hari)
+     */
+    public void allRowsChanged() {
+        if (!habits.isEmpty()) fireContentsChanged(this, 0, habits.size() - 1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.habittracker.model;
+
+/**
+ * Hubungan antara satu habit dan mood harian: rata-rata mood pada hari habit
+ * dikerjakan vs dilewati, korelasi point-biserial, dan lift.
+ */
+public class HabitMoodCorrelation {
+    private final String habitId;
+    private final String habitName;
+    private final int sampleDays;
+    private final int doneDays;
+    private final double meanMoodDone;
+    private final double meanMoodSkipped;
+    private final double correlation;
+    private final double lift;
+
+    public HabitMoodCorrelation(String habitId, String habitName, int sampleDays, int doneDays,
+                                double meanMoodDone, double meanMoodSkipped, double correlation, double lift) {
+        this.habitId = habitId;
+        this.habitName = habitName;
+        this.sampleDays = sampleDays;
+        this.doneDays = doneDays;
+        this.meanMoodDone = meanMoodDone;
+        this.meanMoodSkipped = meanMoodSkipped;
+        this.correlation = correlation;
+        this.lift = lift;
+    }
+
+    public String getHabitId() { return habitId; }
+    public String getHabitName() { return habitName; }
+    /** Jumlah hari yang punya entry mood */
+    public int getSampleDays() { return sampleDays; }
+    /** Jumlah hari ber-mood di mana habit dikerjakan */
+    public int getDoneDays() { return doneDays; }
+    public int getSkippedDays() { return sampleDays - doneDays; }
+    public double getMeanMoodDone() { return meanMoodDone; }
+    public double getMeanMoodSkipped() { return meanMoodSkipped; }
+    /** Selisih rata-rata mood: dikerjakan - dilewati */
+    public double getMoodDifference() { return meanMoodDone - meanMoodSkipped; }
+    /** Korelasi point-biserial dalam [-1, 1]; 0 jika data tidak cukup */
+    public double getCorrelation() { return correlation; }
+    /** Rata-rata mood saat dikerjakan dibanding rata-rata mood keseluruhan */
+    public double getLift() { return lift; }
+
+    /**
+     * Cukup data jika ada hari dikerjakan dan hari dilewati
+     */
+    public boolean hasEnoughData() {
+        return doneDays > 0 && doneDays < sampleDays;
+    }
+}
\ No newline at end of file
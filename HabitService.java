@@ -3,80 +3,103 @@ package com.habittracker.service;
 import com.habittracker.model.*;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.time.temporal.ChronoUnit;
 
 public class HabitService {
-    private DataService dataService;
+    private AppRepository repository;
     private AppData appData;
-    private ScheduledExecutorService scheduler;
+    private HabitAggregates aggregates;
 
     public HabitService() {
-        this.dataService = new DataService();
-        this.appData = dataService.loadData();
-        this.scheduler = Executors.newScheduledThreadPool(1);
-        scheduleDailyReset();
+        this.repository = AppRepository.getInstance();
+        this.appData = repository.getData();
+        this.aggregates = repository.getHabitAggregates();
     }
 
     public List<Habit> getAllHabits() { return appData.getHabits(); }
 
     public void addHabit(Habit habit) {
         appData.addHabit(habit);
-        saveData();
+        aggregates.habitAdded(habit);
+        appendRecord(new JournalRecord.HabitAdded(habit));
+        EventBus.getInstance().publish(new DomainEvent.HabitAdded(habit));
     }
 
     public void toggleHabit(String habitId) {
         Habit habit = appData.getHabitById(habitId);
         if (habit != null) {
-            if (habit.isCompletedToday()) habit.unmarkToday();
-            else habit.markCompleted();
-            saveData();
+            LocalDate today = LocalDate.now();
+            if (habit.isCompletedOnDate(today)) {
+                habit.removeCompletion(today);
+                aggregates.completionChanged(habit, today, false);
+                appendRecord(new JournalRecord.CompletionRemoved(habitId, today));
+                EventBus.getInstance().publish(new DomainEvent.HabitCompleted(habitId, today, false));
+            } else {
+                habit.addCompletion(today);
+                aggregates.completionChanged(habit, today, true);
+                appendRecord(new JournalRecord.CompletionAdded(habitId, today));
+                EventBus.getInstance().publish(new DomainEvent.HabitCompleted(habitId, today, true));
+            }
         }
     }
 
     public void deleteHabit(String habitId) {
+        Habit habit = appData.getHabitById(habitId);
+        if (habit == null) return;
+
         appData.removeHabit(habitId);
-        saveData();
+        aggregates.habitRemoved(habit);
+        appendRecord(new JournalRecord.HabitDeleted(habitId));
+        EventBus.getInstance().publish(new DomainEvent.HabitDeleted(habitId));
     }
 
     public double getDailyProgress() {
-        List<Habit> habits = getAllHabits();
-        if (habits.isEmpty()) return 0.0;
+        if (aggregates.getHabitCount() == 0) return 0.0;
 
-        long completedCount = habits.stream()
-                .filter(Habit::isCompletedToday)
-                .count();
+        return (double) aggregates.getCompletionsOn(LocalDate.now()) / aggregates.getHabitCount() * 100;
+    }
+
+    /**
+     * Memperbarui state yang bergantung pada "hari ini" (streak) untuk semua habit.
+     * Dipanggil di thread yang sama dengan perubahan model (EDT).
+     */
+    public void rollOver(LocalDate today) {
+        for (Habit habit : appData.getHabits()) {
+            habit.rollOver(today);
+        }
+    }
 
-        return (double) completedCount / habits.size() * 100;
+    /**
+     * Mendaftarkan listener pergantian hari pada penjadwal harian bersama
+     */
+    public void addDayChangeListener(Consumer<LocalDate> listener, Executor callbackExecutor) {
+        DailyScheduler.getInstance().addListener(listener, callbackExecutor);
     }
 
-    private void scheduleDailyReset() {
-        long initialDelay = calculateInitialDelay();
-        long period = TimeUnit.DAYS.toSeconds(1);
+    public void removeDayChangeListener(Consumer<LocalDate> listener) {
+        DailyScheduler.getInstance().removeListener(listener);
+    }
 
-        scheduler.scheduleAtFixedRate(() -> {
-            // Reset logic
-            System.out.println("Daily reset at: " + LocalDate.now());
-        }, initialDelay, period, TimeUnit.SECONDS);
+    /**
+     * Berlangganan event domain (habit dan mood) di bus bersama
+     */
+    public EventBus.Registration subscribeEvents(Consumer<DomainEvent> listener, Runnable onOverflow,
+                                                 Executor callbackExecutor) {
+        return EventBus.getInstance().subscribe(listener, onOverflow, callbackExecutor);
     }
 
-    private long calculateInitialDelay() {
-        LocalDate now = LocalDate.now();
-        LocalDate tomorrow = now.plusDays(1);
-        return java.time.Duration.between(
-                java.time.LocalDateTime.now(),
-                tomorrow.atStartOfDay()
-        ).getSeconds();
+    private void appendRecord(JournalRecord record) {
+        try { repository.record(record); } catch (Exception e) { e.printStackTrace(); }
     }
 
-    private void saveData() {
-        try { dataService.saveData(appData); } catch (Exception e) { e.printStackTrace(); }
+    public long getDataVersion() {
+        return repository.getDataVersion();
     }
 
     public void shutdown() {
-        if (scheduler != null && !scheduler.isShutdown()) scheduler.shutdown();
+        repository.flush();
     }
 
     public int getTotalStreak() {
@@ -111,41 +134,28 @@ public class HabitService {
 
     public Habit getMostCompletedHabit() {
         return appData.getHabits().stream()
-                .max(java.util.Comparator.comparingInt(h -> h.getCompletedDates().size()))
+                .max(java.util.Comparator.comparingInt(Habit::getTotalCompletions))
                 .orElse(null);
     }
 
     public int getTodayCompletions() {
-        LocalDate today = LocalDate.now();
-        return (int) appData.getHabits().stream()
-                .filter(h -> h.getCompletedDates().contains(today))
-                .count();
+        return aggregates.getCompletionsOn(LocalDate.now());
     }
 
     public int getTotalCompletions() {
-        return appData.getHabits().stream()
-                .mapToInt(h -> h.getCompletedDates().size())
-                .sum();
+        return aggregates.getTotalCompletions();
     }
 
     public double getWeeklyCompletionRate() {
-        if (appData.getHabits().isEmpty()) {
+        if (aggregates.getHabitCount() == 0) {
             return 0.0;
         }
 
         LocalDate weekStart = LocalDate.now().minusDays(6); // 7 hari termasuk hari ini
         LocalDate today = LocalDate.now();
 
-        int totalPossible = appData.getHabits().size() * 7; // 7 hari
-        int actualCompletions = 0;
-
-        for (Habit habit : appData.getHabits()) {
-            for (LocalDate date = weekStart; !date.isAfter(today); date = date.plusDays(1)) {
-                if (habit.getCompletedDates().contains(date)) {
-                    actualCompletions++;
-                }
-            }
-        }
+        int totalPossible = aggregates.getHabitCount() * 7; // 7 hari
+        int actualCompletions = aggregates.getCompletionsBetween(weekStart, today);
         return totalPossible > 0 ? (double) actualCompletions / totalPossible * 100 : 0.0;
     }
 
@@ -153,37 +163,46 @@ public class HabitService {
         java.util.Map<LocalDate, Integer> trend = new java.util.LinkedHashMap<>();
         LocalDate today = LocalDate.now();
 
-        // Isi 7 hari terakhir
+        // Isi 7 hari terakhir dari agregat harian
         for (int i = 6; i >= 0; i--) {
             LocalDate date = today.minusDays(i);
-            trend.put(date, 0);
+            trend.put(date, aggregates.getCompletionsOn(date));
         }
+        return trend;
+    }
 
-        // Hitung penyelesaian per hari
+    /**
+     * Semua statistik habit untuk tab Statistics; streak dikumpulkan dalam satu lintasan,
+     * sisanya dibaca dari agregat
+     */
+    public DashboardSnapshot.HabitStats getDashboardStats() {
+        long passesBefore = DataPassCounter.get();
+        int totalStreak = 0;
+        int bestStreak = 0;
+        DataPassCounter.record();
         for (Habit habit : appData.getHabits()) {
-            for (LocalDate date : habit.getCompletedDates()) {
-                if (trend.containsKey(date)) {
-                    trend.put(date, trend.get(date) + 1);
-                }
-            }
+            totalStreak += habit.getCurrentStreak();
+            bestStreak = Math.max(bestStreak, habit.getBestStreak());
         }
-        return trend;
+
+        return new DashboardSnapshot.HabitStats(
+                aggregates.getHabitCount(),
+                getDailyProgress(),
+                getTodayCompletions(),
+                totalStreak,
+                bestStreak,
+                getWeeklyCompletionRate(),
+                getMostProductiveCategory(),
+                (int) (DataPassCounter.get() - passesBefore)
+        );
     }
 
     public String getMostProductiveCategory() {
-        if (appData.getHabits().isEmpty()) {
+        if (aggregates.getHabitCount() == 0) {
             return "No habits";
         }
 
-        java.util.Map<String, Integer> categoryCompletions = new java.util.HashMap<>();
-
-        for (Habit habit : appData.getHabits()) {
-            String category = habit.getCategory();
-            int completions = habit.getCompletedDates().size();
-            categoryCompletions.put(category, categoryCompletions.getOrDefault(category, 0) + completions);
-        }
-
-        return categoryCompletions.entrySet().stream()
+        return aggregates.getCategoryCompletions().entrySet().stream()
                 .max(java.util.Map.Entry.comparingByValue())
                 .map(java.util.Map.Entry::getKey)
                 .orElse("Unknown");
@@ -0,0 +1,197 @@
+package com.habittracker.service;
+
+import com.habittracker.model.*;
+import java.io.*;
+import java.time.LocalDate;
+
+/**
+ * Satu perubahan kecil yang ditulis ke journal (append-only) dan
+ * diputar ulang di atas snapshot saat data dimuat.
+ */
+public abstract class JournalRecord {
+    static final byte HABIT_ADDED = 1;
+    static final byte HABIT_DELETED = 2;
+    static final byte COMPLETION_ADDED = 3;
+    static final byte COMPLETION_REMOVED = 4;
+    static final byte MOOD_ENTRY_ADDED = 5;
+    static final byte CUSTOM_ACTIVITY_ADDED = 6;
+
+    abstract byte getType();
+
+    abstract void writePayload(DataOutputStream out) throws IOException;
+
+    /**
+     * Menerapkan perubahan ke AppData yang sedang dibangun ulang
+     */
+    public abstract void apply(AppData data);
+
+    /**
+     * Format: [type][panjang payload][payload][crc32 payload]
+     */
+    byte[] encode() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+        try (DataOutputStream payload = new DataOutputStream(buffer)) {
+            writePayload(payload);
+        }
+        byte[] bytes = buffer.toByteArray();
+        java.util.zip.CRC32 crc = new java.util.zip.CRC32();
+        crc.update(bytes);
+
+        ByteArrayOutputStream frame = new ByteArrayOutputStream(bytes.length + 9);
+        try (DataOutputStream out = new DataOutputStream(frame)) {
+            out.writeByte(getType());
+            out.writeInt(bytes.length);
+            out.write(bytes);
+            out.writeInt((int) crc.getValue());
+        }
+        return frame.toByteArray();
+    }
+
+    /**
+     * Membaca satu record. Melempar EOFException jika record terpotong
+     * (misalnya aplikasi crash di tengah penulisan).
+     */
+    static JournalRecord readFrom(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        int length = in.readInt();
+        if (length < 0) throw new StreamCorruptedException("Invalid journal record length: " + length);
+
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        int checksum = in.readInt();
+
+        java.util.zip.CRC32 crc = new java.util.zip.CRC32();
+        crc.update(bytes);
+        if ((int) crc.getValue() != checksum) {
+            throw new StreamCorruptedException("Journal record checksum mismatch");
+        }
+
+        DataInputStream payload = new DataInputStream(new ByteArrayInputStream(bytes));
+        switch (type) {
+            case HABIT_ADDED: return new HabitAdded((Habit) readObject(payload));
+            case HABIT_DELETED: return new HabitDeleted(payload.readUTF());
+            case COMPLETION_ADDED: return new CompletionAdded(payload.readUTF(), LocalDate.ofEpochDay(payload.readLong()));
+            case COMPLETION_REMOVED: return new CompletionRemoved(payload.readUTF(), LocalDate.ofEpochDay(payload.readLong()));
+            case MOOD_ENTRY_ADDED: return new MoodEntryAdded((MoodEntry) readObject(payload));
+            case CUSTOM_ACTIVITY_ADDED: return new CustomActivityAdded(payload.readUTF(), payload.readUTF());
+            default: throw new StreamCorruptedException("Unknown journal record type: " + type);
+        }
+    }
+
+    private static void writeObject(DataOutputStream out, Serializable object) throws IOException {
+        ObjectOutputStream oos = new ObjectOutputStream(out);
+        oos.writeObject(object);
+        oos.flush();
+    }
+
+    private static Object readObject(DataInputStream in) throws IOException {
+        try {
+            return new ObjectInputStream(in).readObject();
+        } catch (ClassNotFoundException e) {
+            throw new InvalidClassException(e.getMessage());
+        }
+    }
+
+    // ==================== RECORD TYPES ====================
+
+    public static class HabitAdded extends JournalRecord {
+        private final Habit habit;
+
+        public HabitAdded(Habit habit) { this.habit = habit; }
+
+        byte getType() { return HABIT_ADDED; }
+        void writePayload(DataOutputStream out) throws IOException { writeObject(out, habit); }
+
+        public void apply(AppData data) {
+            if (data.getHabitById(habit.getId()) == null) data.addHabit(habit);
+        }
+    }
+
+    public static class HabitDeleted extends JournalRecord {
+        private final String habitId;
+
+        public HabitDeleted(String habitId) { this.habitId = habitId; }
+
+        byte getType() { return HABIT_DELETED; }
+        void writePayload(DataOutputStream out) throws IOException { out.writeUTF(habitId); }
+
+        public void apply(AppData data) { data.removeHabit(habitId); }
+    }
+
+    public static class CompletionAdded extends JournalRecord {
+        private final String habitId;
+        private final LocalDate date;
+
+        public CompletionAdded(String habitId, LocalDate date) {
+            this.habitId = habitId;
+            this.date = date;
+        }
+
+        byte getType() { return COMPLETION_ADDED; }
+
+        void writePayload(DataOutputStream out) throws IOException {
+            out.writeUTF(habitId);
+            out.writeLong(date.toEpochDay());
+        }
+
+        public void apply(AppData data) {
+            Habit habit = data.getHabitById(habitId);
+            if (habit != null) habit.addCompletion(date);
+        }
+    }
+
+    public static class CompletionRemoved extends JournalRecord {
+        private final String habitId;
+        private final LocalDate date;
+
+        public CompletionRemoved(String habitId, LocalDate date) {
+            this.habitId = habitId;
+            this.date = date;
+        }
+
+        byte getType() { return COMPLETION_REMOVED; }
+
+        void writePayload(DataOutputStream out) throws IOException {
+            out.writeUTF(habitId);
+            out.writeLong(date.toEpochDay());
+        }
+
+        public void apply(AppData data) {
+            Habit habit = data.getHabitById(habitId);
+            if (habit != null) habit.removeCompletion(date);
+        }
+    }
+
+    public static class MoodEntryAdded extends JournalRecord {
+        private final MoodEntry entry;
+
+        public MoodEntryAdded(MoodEntry entry) { this.entry = entry; }
+
+        byte getType() { return MOOD_ENTRY_ADDED; }
+        void writePayload(DataOutputStream out) throws IOException { writeObject(out, entry); }
+
+        public void apply(AppData data) {
+            MoodEntry existing = data.getMoodEntry(entry.getTimestamp().toLocalDate());
+            if (existing == null || !existing.getId().equals(entry.getId())) data.addMoodEntry(entry);
+        }
+    }
+
+    public static class CustomActivityAdded extends JournalRecord {
+        private final String username;
+        private final String activity;
+
+        public CustomActivityAdded(String username, String activity) {
+            this.username = username;
+            this.activity = activity;
+        }
+
+        byte getType() { return CUSTOM_ACTIVITY_ADDED; }
+
+        void writePayload(DataOutputStream out) throws IOException {
+            out.writeUTF(username);
+            out.writeUTF(activity);
+        }
+
+        public void apply(AppData data) { data.addCustomActivity(username, activity); }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.habittracker.controller;
+
+/**
+ * Histogram latensi dengan bucket pangkat dua (dalam mikrodetik). Bucket ke-i
+ * mencakup [2^i, 2^(i+1)) us; bucket 0 juga menampung durasi di bawah 1 us.
+ */
+public class LatencyHistogram {
+    private static final int BUCKETS = 32;
+
+    private final long[] counts = new long[BUCKETS];
+    private long totalCount;
+    private long totalMicros;
+    private long maxMicros;
+
+    public synchronized void record(long nanos) {
+        long micros = Math.max(nanos / 1000, 0);
+        int bucket = micros == 0 ? 0 : Math.min(63 - Long.numberOfLeadingZeros(micros), BUCKETS - 1);
+        counts[bucket]++;
+        totalCount++;
+        totalMicros += micros;
+        maxMicros = Math.max(maxMicros, micros);
+    }
+
+    public synchronized long getCount() { return totalCount; }
+    public synchronized long getMaxMicros() { return maxMicros; }
+
+    public synchronized double getMeanMicros() {
+        return totalCount == 0 ? 0.0 : (double) totalMicros / totalCount;
+    }
+
+    /**
+     * Perkiraan persentil (0-100): batas atas bucket tempat persentil itu jatuh
+     */
+    public synchronized long getPercentileMicros(double percentile) {
+        if (totalCount == 0) return 0;
+        long target = (long) Math.ceil(totalCount * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) return Math.min(1L << (i + 1), maxMicros);
+        }
+        return maxMicros;
+    }
+
+    /**
+     * Satu baris ringkasan plus baris per bucket yang terisi
+     */
+    public synchronized String format(String title) {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("%s: n=%d mean=%.0fus p50<=%dus p99<=%dus max=%dus%n",
+                title, totalCount, getMeanMicros(), getPercentileMicros(50), getPercentileMicros(99), maxMicros));
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] == 0) continue;
+            text.append(String.format("    [%8d, %8d) us  %d%n", i == 0 ? 0 : 1L << i, 1L << (i + 1), counts[i]));
+        }
+        return text.toString();
+    }
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.habittracker.view;
 
+import com.habittracker.controller.AsyncTasks;
 import com.habittracker.controller.AuthController;
 import javax.swing.*;
 import java.awt.*;
@@ -138,16 +139,34 @@ public class LoginView extends JPanel {
             return;
         }
 
-        if (authController.login(username, password)) {
-            messageLabel.setText("Login successful!");
-            JFrame topFrame = (JFrame) SwingUtilities.getWindowAncestor(this);
-            topFrame.getContentPane().removeAll();
-            topFrame.getContentPane().add(new MainView());
-            topFrame.revalidate();
-            topFrame.repaint();
-        } else {
-            messageLabel.setText("Invalid username or password!");
-        }
+        setButtonsEnabled(false);
+        messageLabel.setText("Loading...");
+        AsyncTasks.onEdt(authController.loginAsync(username, password), success -> {
+            setButtonsEnabled(true);
+            if (success) {
+                messageLabel.setText("Login successful!");
+                JFrame topFrame = (JFrame) SwingUtilities.getWindowAncestor(this);
+                topFrame.getContentPane().removeAll();
+                topFrame.getContentPane().add(new MainView());
+                topFrame.revalidate();
+                topFrame.repaint();
+                String warning = authController.getDataWarning();
+                if (warning != null) {
+                    JOptionPane.showMessageDialog(topFrame, warning, "Data Problem", JOptionPane.WARNING_MESSAGE);
+                }
+            } else {
+                messageLabel.setText("Invalid username or password!");
+            }
+        }, error -> {
+            setButtonsEnabled(true);
+            error.printStackTrace();
+            messageLabel.setText("Failed to load data!");
+        });
+    }
+
+    private void setButtonsEnabled(boolean enabled) {
+        loginButton.setEnabled(enabled);
+        registerButton.setEnabled(enabled);
     }
 
     private void showRegisterDialog() {
@@ -187,16 +206,23 @@ public class LoginView extends JPanel {
         JButton regBtn = new JButton("Register");
         styleButton(regBtn, new Color(173, 216, 230)); // TEXT HITAM
         regBtn.addActionListener(e -> {
-            if (authController.register(
+            regBtn.setEnabled(false);
+            AsyncTasks.onEdt(authController.registerAsync(
                     userField.getText().trim(),
                     new String(passField.getPassword()),
                     emailField.getText().trim()
-            )) {
-                JOptionPane.showMessageDialog(dialog, "Registration successful!");
-                dialog.dispose();
-            } else {
+            ), success -> {
+                regBtn.setEnabled(true);
+                if (success) {
+                    JOptionPane.showMessageDialog(dialog, "Registration successful!");
+                    dialog.dispose();
+                } else {
+                    JOptionPane.showMessageDialog(dialog, "Registration failed!");
+                }
+            }, error -> {
+                regBtn.setEnabled(true);
                 JOptionPane.showMessageDialog(dialog, "Registration failed!");
-            }
+            });
         });
 
         JButton cancelBtn = new JButton("Cancel");
@@ -1,5 +1,6 @@
 package com.habittracker;
 
+import com.habittracker.controller.EdtMonitor;
 import com.habittracker.view.LoginView;
 import javax.swing.*;
 import java.awt.*;
@@ -23,6 +24,9 @@ public class Main {
             e.printStackTrace();
         }
 
+        // Diagnostik EDT opsional (-Dhabittracker.edtMonitor=true)
+        EdtMonitor.installIfEnabled();
+
         SwingUtilities.invokeLater(() -> {
             JFrame frame = new JFrame("Smart Habit & Emotion Tracker");
             frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -13,7 +13,14 @@ public class MainView extends JPanel {
     private HabitController habitController;
     private MoodController moodController;
     private JPanel habitsListPanel;
+    private HabitListModel habitListModel;
+    private JList<Habit> habitList;
     private JLabel progressLabel;
+    // Isi tab Mood dan Statistics dibuat saat tab pertama kali dipilih
+    private JPanel moodTab;
+    private JPanel statsTab;
+    private long statsVersion = -1;
+    private java.time.LocalDate statsDate;
 
     public MainView() {
         habitController = new HabitController();
@@ -33,10 +40,159 @@ public class MainView extends JPanel {
 
         // Add Tabs
         tabbedPane.addTab("🏆 Habits", createHabitPanel());
-        tabbedPane.addTab("😊 Mood", createMoodPanel());
-        tabbedPane.addTab("📊 Statistics", createStatsPanel());
+        moodTab = createLazyTab();
+        statsTab = createLazyTab();
+        tabbedPane.addTab("😊 Mood", moodTab);
+        tabbedPane.addTab("📊 Statistics", statsTab);
+        tabbedPane.addChangeListener(e -> ensureSelectedTabContent());
+        habitController.setDayChangeListener(today -> onDayChanged());
+        habitController.subscribeEvents(this::onDomainEvent, this::resyncAll);
 
         add(tabbedPane, BorderLayout.CENTER);
+
+        // Tab diagnostik tersembunyi: Ctrl+Shift+D, hanya jika EDT monitor aktif
+        if (EdtMonitor.isInstalled()) {
+            getInputMap(WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke("ctrl shift D"), "showDiagnostics");
+            getActionMap().put("showDiagnostics", new AbstractAction() {
+                public void actionPerformed(java.awt.event.ActionEvent e) {
+                    showDiagnosticsTab();
+                }
+            });
+        }
+    }
+
+    /**
+     * Menerapkan satu perubahan ke komponen yang terdampak saja
+     */
+    private void onDomainEvent(DomainEvent event) {
+        if (event instanceof DomainEvent.HabitCompleted) {
+            int index = habitListModel.indexOf(((DomainEvent.HabitCompleted) event).getHabitId());
+            if (index >= 0) habitListModel.rowChanged(index);
+            updateProgressLabel();
+        } else if (event instanceof DomainEvent.HabitAdded) {
+            Habit habit = ((DomainEvent.HabitAdded) event).getHabit();
+            if (habitListModel.indexOf(habit.getId()) < 0) habitListModel.add(habit);
+            updateHabitsListState();
+        } else if (event instanceof DomainEvent.HabitDeleted) {
+            int index = habitListModel.indexOf(((DomainEvent.HabitDeleted) event).getHabitId());
+            if (index >= 0) habitListModel.remove(index);
+            updateHabitsListState();
+        } else if (event instanceof DomainEvent.MoodLogged) {
+            if (moodTab.getComponentCount() > 0) refreshMoodPanel();
+        }
+
+        if (tabbedPane.getSelectedComponent() == statsTab) refreshStatsIfStale();
+    }
+
+    /**
+     * Ada event yang terlewat: muat ulang semua yang sudah dibangun
+     */
+    private void resyncAll() {
+        refreshHabitsList();
+        if (moodTab.getComponentCount() > 0) refreshMoodPanel();
+        if (tabbedPane.getSelectedComponent() == statsTab) refreshStatsIfStale();
+    }
+
+    /**
+     * Tengah malam: centang hari ini, progress, dan tab Mood menjadi basi
+     */
+    private void onDayChanged() {
+        habitListModel.allRowsChanged();
+        updateHabitsListState();
+        if (moodTab.getComponentCount() > 0) refreshMoodPanel();
+        if (tabbedPane.getSelectedComponent() == statsTab) refreshStatsIfStale();
+    }
+
+    // ==================== LAZY TABS ====================
+    private JPanel createLazyTab() {
+        JPanel tab = new JPanel(new BorderLayout());
+        tab.setBackground(new Color(240, 248, 255));
+        return tab;
+    }
+
+    private void ensureSelectedTabContent() {
+        Component selected = tabbedPane.getSelectedComponent();
+        if (selected == moodTab && moodTab.getComponentCount() == 0) {
+            refreshMoodPanel();
+        } else if (selected == statsTab) {
+            refreshStatsIfStale();
+        }
+    }
+
+    /**
+     * Membangun ulang tab Statistics hanya jika data berubah atau hari berganti
+     */
+    private void refreshStatsIfStale() {
+        long version = habitController.getDataVersion();
+        java.time.LocalDate today = java.time.LocalDate.now();
+        if (version == statsVersion && today.equals(statsDate)) return;
+
+        statsVersion = version;
+        statsDate = today;
+        setTabContent(statsTab, createStatsPanel());
+    }
+
+    private void setTabContent(JPanel tab, JComponent content) {
+        tab.removeAll();
+        tab.add(content, BorderLayout.CENTER);
+        tab.revalidate();
+        tab.repaint();
+    }
+
+    // ==================== DIAGNOSTICS TAB ====================
+    private void showDiagnosticsTab() {
+        int index = tabbedPane.indexOfTab("🩺 Diagnostics");
+        if (index < 0) {
+            tabbedPane.addTab("🩺 Diagnostics", createDiagnosticsPanel());
+            index = tabbedPane.getTabCount() - 1;
+        }
+        tabbedPane.setSelectedIndex(index);
+    }
+
+    private JPanel createDiagnosticsPanel() {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setBackground(new Color(240, 248, 255));
+        panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+
+        JTextArea reportArea = new JTextArea(EdtMonitor.getReport());
+        reportArea.setEditable(false);
+        reportArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 10));
+        buttonPanel.setBackground(new Color(240, 248, 255));
+
+        JButton refreshButton = createStyledButton("🔄 Refresh", new Color(173, 216, 230));
+        refreshButton.addActionListener(e -> {
+            reportArea.setText(EdtMonitor.getReport());
+            reportArea.setCaretPosition(0);
+        });
+
+        JButton dumpButton = createStyledButton("💾 Dump to File", new Color(100, 149, 237));
+        dumpButton.addActionListener(e -> {
+            java.nio.file.Path file = java.nio.file.Paths.get("edt-report-" + System.currentTimeMillis() + ".txt");
+            AsyncTasks.onEdt(AsyncTasks.runIo(() -> {
+                try {
+                    EdtMonitor.dumpTo(file);
+                } catch (java.io.IOException ex) {
+                    throw new java.io.UncheckedIOException(ex);
+                }
+            }), ignored -> JOptionPane.showMessageDialog(panel,
+                    "✅ Report written to " + file.toAbsolutePath(),
+                    "Diagnostics",
+                    JOptionPane.INFORMATION_MESSAGE
+            ), error -> JOptionPane.showMessageDialog(panel,
+                    "❌ Failed to write report: " + error.getMessage(),
+                    "Error",
+                    JOptionPane.ERROR_MESSAGE
+            ));
+        });
+
+        buttonPanel.add(refreshButton);
+        buttonPanel.add(dumpButton);
+
+        panel.add(buttonPanel, BorderLayout.NORTH);
+        panel.add(new JScrollPane(reportArea), BorderLayout.CENTER);
+        return panel;
     }
 
     // ==================== HEADER PANEL ====================
@@ -86,167 +242,127 @@ public class MainView extends JPanel {
 
         panel.add(topPanel, BorderLayout.NORTH);
 
-        // Habits List Panel
-        habitsListPanel = new JPanel();
-        habitsListPanel.setLayout(new BoxLayout(habitsListPanel, BoxLayout.Y_AXIS));
-        habitsListPanel.setBackground(Color.WHITE);
-
-        refreshHabitsList();
+        // Habits List: hanya baris yang terlihat yang digambar
+        HabitCardRenderer renderer = new HabitCardRenderer();
+        habitListModel = new HabitListModel();
+        habitList = new JList<>(habitListModel);
+        habitList.setCellRenderer(renderer);
+        habitList.setFixedCellHeight(renderer.getCellHeight());
+        habitList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        habitList.setBackground(Color.WHITE);
+        habitList.setBorder(BorderFactory.createEmptyBorder(15, 15, 0, 15));
+        habitList.addMouseListener(new java.awt.event.MouseAdapter() {
+            public void mouseClicked(java.awt.event.MouseEvent evt) {
+                int index = habitList.locationToIndex(evt.getPoint());
+                if (index < 0) return;
+                if (renderer.isCheckBoxAt(habitList, index, evt.getPoint())) {
+                    toggleHabitAt(index);
+                } else if (renderer.isDeleteButtonAt(habitList, index, evt.getPoint())) {
+                    deleteHabitAt(index);
+                }
+            }
+        });
+        habitList.addMouseMotionListener(new java.awt.event.MouseMotionAdapter() {
+            public void mouseMoved(java.awt.event.MouseEvent evt) {
+                int index = habitList.locationToIndex(evt.getPoint());
+                boolean clickable = index >= 0
+                        && (renderer.isCheckBoxAt(habitList, index, evt.getPoint())
+                        || renderer.isDeleteButtonAt(habitList, index, evt.getPoint()));
+                habitList.setCursor(clickable ? new Cursor(Cursor.HAND_CURSOR) : Cursor.getDefaultCursor());
+            }
+        });
+        habitList.getInputMap().put(KeyStroke.getKeyStroke("SPACE"), "toggleHabit");
+        habitList.getActionMap().put("toggleHabit", new AbstractAction() {
+            public void actionPerformed(java.awt.event.ActionEvent e) {
+                if (habitList.getSelectedIndex() >= 0) toggleHabitAt(habitList.getSelectedIndex());
+            }
+        });
+        habitList.getInputMap().put(KeyStroke.getKeyStroke("DELETE"), "deleteHabit");
+        habitList.getActionMap().put("deleteHabit", new AbstractAction() {
+            public void actionPerformed(java.awt.event.ActionEvent e) {
+                if (habitList.getSelectedIndex() >= 0) deleteHabitAt(habitList.getSelectedIndex());
+            }
+        });
 
-        JScrollPane scrollPane = new JScrollPane(habitsListPanel);
+        JScrollPane scrollPane = new JScrollPane(habitList);
         scrollPane.setBorder(BorderFactory.createEmptyBorder());
         scrollPane.getVerticalScrollBar().setUnitIncrement(16);
-        panel.add(scrollPane, BorderLayout.CENTER);
+
+        // Empty state dan daftar berbagi tempat yang sama
+        habitsListPanel = new JPanel(new CardLayout());
+        habitsListPanel.add(createEmptyHabitsPanel(), "empty");
+        habitsListPanel.add(scrollPane, "list");
+        panel.add(habitsListPanel, BorderLayout.CENTER);
+
+        refreshHabitsList();
 
         return panel;
     }
 
+    /**
+     * Memuat ulang seluruh daftar dari controller
+     */
     private void refreshHabitsList() {
-        if (habitsListPanel == null) return;
-
-        habitsListPanel.removeAll();
-
-        List<Habit> habits = habitController.getAllHabits();
-
-        if (habits.isEmpty()) {
-            // Empty State
-            JPanel emptyPanel = new JPanel(new BorderLayout());
-            emptyPanel.setBackground(Color.WHITE);
-            emptyPanel.setBorder(BorderFactory.createEmptyBorder(50, 20, 50, 20));
-
-            JLabel emptyLabel = new JLabel(
-                    "<html><div style='text-align: center;'>"
-                            + "<h2 style='color: #4682B4;'>🌟 No Habits Yet!</h2>"
-                            + "<p style='color: #888; margin-top: 10px;'>"
-                            + "Start building your daily routine by creating your first habit."
-                            + "</p></div></html>"
-            );
-            emptyLabel.setFont(new Font("Arial", Font.PLAIN, 14));
-            emptyLabel.setHorizontalAlignment(SwingConstants.CENTER);
+        if (habitListModel == null) return;
 
-            JButton createButton = createStyledButton("🎯 Create Your First Habit", new Color(100, 149, 237));
-            createButton.setPreferredSize(new Dimension(200, 45));
-            createButton.addActionListener(e -> showAddHabitDialog());
-
-            JPanel buttonPanel = new JPanel();
-            buttonPanel.setBackground(Color.WHITE);
-            buttonPanel.add(createButton);
-
-            emptyPanel.add(emptyLabel, BorderLayout.CENTER);
-            emptyPanel.add(buttonPanel, BorderLayout.SOUTH);
-
-            habitsListPanel.add(emptyPanel);
-        } else {
-            // Display All Habits
-            for (Habit habit : habits) {
-                habitsListPanel.add(createHabitCard(habit));
-                habitsListPanel.add(Box.createVerticalStrut(15));
-            }
-        }
+        habitListModel.setHabits(habitController.getAllHabits());
+        updateHabitsListState();
+    }
 
-        habitsListPanel.revalidate();
-        habitsListPanel.repaint();
+    private void updateHabitsListState() {
+        CardLayout layout = (CardLayout) habitsListPanel.getLayout();
+        layout.show(habitsListPanel, habitListModel.getSize() == 0 ? "empty" : "list");
         updateProgressLabel();
     }
 
-    private JPanel createHabitCard(Habit habit) {
-        JPanel card = new JPanel(new BorderLayout());
-        card.setBackground(Color.WHITE);
-        card.setBorder(BorderFactory.createCompoundBorder(
-                BorderFactory.createLineBorder(new Color(200, 220, 240), 2),
-                BorderFactory.createEmptyBorder(15, 15, 15, 15)
-        ));
-        card.setMaximumSize(new Dimension(700, 110));
-
-        // Left Side: Checkbox and Info
-        JPanel leftPanel = new JPanel(new BorderLayout());
-        leftPanel.setBackground(Color.WHITE);
-
-        // Checkbox
-        JCheckBox checkBox = new JCheckBox();
-        checkBox.setSelected(habit.isCompletedToday());
-        checkBox.setBackground(Color.WHITE);
-        checkBox.addActionListener(e -> {
-            habitController.toggleHabit(habit.getId());
-            refreshHabitsList();
-        });
-
-        // Habit Info
-        JPanel infoPanel = new JPanel(new GridLayout(2, 1, 5, 5));
-        infoPanel.setBackground(Color.WHITE);
-
-        JLabel nameLabel = new JLabel("📌 " + habit.getName());
-        nameLabel.setFont(new Font("Arial", Font.BOLD, 14));
-        nameLabel.setForeground(new Color(70, 130, 180));
-
-        JLabel descLabel = new JLabel(habit.getDescription());
-        descLabel.setFont(new Font("Arial", Font.PLAIN, 12));
-        descLabel.setForeground(Color.GRAY);
-
-        infoPanel.add(nameLabel);
-        infoPanel.add(descLabel);
-
-        leftPanel.add(checkBox, BorderLayout.WEST);
-        leftPanel.add(Box.createHorizontalStrut(15), BorderLayout.CENTER);
-        leftPanel.add(infoPanel, BorderLayout.EAST);
-
-        // Right Side: Streaks and Delete Button
-        JPanel rightPanel = new JPanel(new BorderLayout());
-        rightPanel.setBackground(Color.WHITE);
-
-        // Streaks Panel
-        JPanel streakPanel = new JPanel(new GridLayout(2, 2, 10, 5));
-        streakPanel.setBackground(Color.WHITE);
-
-        JLabel currentLabel = new JLabel("Current Streak:");
-        currentLabel.setFont(new Font("Arial", Font.BOLD, 11));
-        currentLabel.setForeground(Color.DARK_GRAY);
-
-        JLabel currentValue = new JLabel(String.valueOf(habit.getCurrentStreak()));
-        currentValue.setFont(new Font("Arial", Font.BOLD, 14));
-        currentValue.setForeground(new Color(100, 149, 237));
-        currentValue.setHorizontalAlignment(SwingConstants.CENTER);
-
-        JLabel bestLabel = new JLabel("Best Streak:");
-        bestLabel.setFont(new Font("Arial", Font.BOLD, 11));
-        bestLabel.setForeground(Color.DARK_GRAY);
-
-        JLabel bestValue = new JLabel(String.valueOf(habit.getBestStreak()));
-        bestValue.setFont(new Font("Arial", Font.BOLD, 14));
-        bestValue.setForeground(new Color(30, 144, 255));
-        bestValue.setHorizontalAlignment(SwingConstants.CENTER);
-
-        streakPanel.add(currentLabel);
-        streakPanel.add(currentValue);
-        streakPanel.add(bestLabel);
-        streakPanel.add(bestValue);
-
-        // Delete Button
-        JButton deleteButton = createStyledButton("🗑 Delete", new Color(255, 200, 200));
-        deleteButton.setFont(new Font("Arial", Font.PLAIN, 11));
-        deleteButton.setPreferredSize(new Dimension(80, 30));
-        deleteButton.addActionListener(e -> {
-            int confirm = JOptionPane.showConfirmDialog(
-                    this,
-                    "Are you sure you want to delete '" + habit.getName() + "'?",
-                    "Confirm Delete",
-                    JOptionPane.YES_NO_OPTION,
-                    JOptionPane.WARNING_MESSAGE
-            );
-
-            if (confirm == JOptionPane.YES_OPTION) {
-                habitController.deleteHabit(habit.getId());
-                refreshHabitsList();
-            }
-        });
-
-        rightPanel.add(streakPanel, BorderLayout.CENTER);
-        rightPanel.add(deleteButton, BorderLayout.EAST);
+    private JPanel createEmptyHabitsPanel() {
+        JPanel emptyPanel = new JPanel(new BorderLayout());
+        emptyPanel.setBackground(Color.WHITE);
+        emptyPanel.setBorder(BorderFactory.createEmptyBorder(50, 20, 50, 20));
+
+        JLabel emptyLabel = new JLabel(
+                "<html><div style='text-align: center;'>"
+                        + "<h2 style='color: #4682B4;'>🌟 No Habits Yet!</h2>"
+                        + "<p style='color: #888; margin-top: 10px;'>"
+                        + "Start building your daily routine by creating your first habit."
+                        + "</p></div></html>"
+        );
+        emptyLabel.setFont(new Font("Arial", Font.PLAIN, 14));
+        emptyLabel.setHorizontalAlignment(SwingConstants.CENTER);
+
+        JButton createButton = createStyledButton("🎯 Create Your First Habit", new Color(100, 149, 237));
+        createButton.setPreferredSize(new Dimension(200, 45));
+        createButton.addActionListener(e -> showAddHabitDialog());
+
+        JPanel buttonPanel = new JPanel();
+        buttonPanel.setBackground(Color.WHITE);
+        buttonPanel.add(createButton);
+
+        emptyPanel.add(emptyLabel, BorderLayout.NORTH);
+        emptyPanel.add(buttonPanel, BorderLayout.CENTER);
+
+        return emptyPanel;
+    }
 
-        card.add(leftPanel, BorderLayout.CENTER);
-        card.add(rightPanel, BorderLayout.EAST);
+    private void toggleHabitAt(int index) {
+        Habit habit = habitListModel.getElementAt(index);
+        // Baris dan progress diperbarui oleh event HabitCompleted
+        habitController.toggleHabit(habit.getId());
+    }
 
-        return card;
+    private void deleteHabitAt(int index) {
+        Habit habit = habitListModel.getElementAt(index);
+        int confirm = JOptionPane.showConfirmDialog(
+                this,
+                "Are you sure you want to delete '" + habit.getName() + "'?",
+                "Confirm Delete",
+                JOptionPane.YES_NO_OPTION,
+                JOptionPane.WARNING_MESSAGE
+        );
+
+        if (confirm == JOptionPane.YES_OPTION) {
+            habitController.deleteHabit(habit.getId());
+        }
     }
 
     private void showAddHabitDialog() {
@@ -349,7 +465,6 @@ public class MainView extends JPanel {
                     JOptionPane.INFORMATION_MESSAGE);
 
             dialog.dispose();
-            refreshHabitsList();
             tabbedPane.setSelectedIndex(0);
         });
 
@@ -396,17 +511,8 @@ public class MainView extends JPanel {
     }
 
     // ==================== MOOD PANEL ====================
-    private JPanel createMoodPanel() {
-        JPanel panel = new JPanel(new BorderLayout());
-        panel.setBackground(new Color(240, 248, 255));
-
-        if (moodController.hasEntryToday()) {
-            panel.add(createMoodEntryView(), BorderLayout.CENTER);
-        } else {
-            panel.add(createMoodInputView(), BorderLayout.CENTER);
-        }
-
-        return panel;
+    private JPanel createMoodContent() {
+        return moodController.hasEntryToday() ? createMoodEntryView() : createMoodInputView();
     }
 
     private JPanel createMoodEntryView() {
@@ -512,22 +618,12 @@ public class MainView extends JPanel {
         panel.add(activitiesLabel);
         panel.add(Box.createVerticalStrut(15));
 
-        String[] activities = {
-                "🏃 Exercise", "📚 Read", "🧘 Meditate", "💼 Work",
-                "👥 Socialize", "🎮 Gaming", "🍳 Cooking", "🛒 Shopping",
-                "📖 Study", "🎵 Music", "🎬 Movies", "🚶 Walk"
-        };
-
         JPanel activitiesPanel = new JPanel(new GridLayout(0, 3, 10, 10));
         activitiesPanel.setBackground(Color.WHITE);
         List<JCheckBox> activityCheckboxes = new ArrayList<>();
 
-        for (String activity : activities) {
-            JCheckBox checkBox = new JCheckBox(activity);
-            checkBox.setFont(new Font("Arial", Font.PLAIN, 12));
-            checkBox.setBackground(Color.WHITE);
-            activitiesPanel.add(checkBox);
-            activityCheckboxes.add(checkBox);
+        for (String activity : moodController.getAvailableActivities()) {
+            addActivityCheckBox(activitiesPanel, activityCheckboxes, activity);
         }
 
         JScrollPane activitiesScroll = new JScrollPane(activitiesPanel);
@@ -535,6 +631,28 @@ public class MainView extends JPanel {
         activitiesScroll.setBorder(BorderFactory.createEmptyBorder());
         activitiesScroll.setAlignmentX(Component.CENTER_ALIGNMENT);
         panel.add(activitiesScroll);
+        panel.add(Box.createVerticalStrut(10));
+
+        JButton addActivityButton = createStyledButton("➕ Add Activity", new Color(60, 179, 113));
+        addActivityButton.setAlignmentX(Component.CENTER_ALIGNMENT);
+        addActivityButton.addActionListener(e -> {
+            String activity = JOptionPane.showInputDialog(panel, "New activity name:", "Add Activity",
+                    JOptionPane.PLAIN_MESSAGE);
+            if (activity == null || activity.trim().isEmpty()) return;
+
+            if (moodController.addCustomActivity(activity)) {
+                JCheckBox checkBox = addActivityCheckBox(activitiesPanel, activityCheckboxes, activity.trim());
+                checkBox.setSelected(true);
+                activitiesPanel.revalidate();
+                activitiesPanel.repaint();
+            } else {
+                JOptionPane.showMessageDialog(panel,
+                        "❌ That activity already exists!",
+                        "Error",
+                        JOptionPane.ERROR_MESSAGE);
+            }
+        });
+        panel.add(addActivityButton);
         panel.add(Box.createVerticalStrut(30));
 
         // Save Button
@@ -569,9 +687,7 @@ public class MainView extends JPanel {
             // Add selected activities
             for (JCheckBox checkBox : activityCheckboxes) {
                 if (checkBox.isSelected()) {
-                    String activityText = checkBox.getText();
-                    String cleanActivity = activityText.substring(2).trim(); // Remove emoji
-                    moodEntry.addActivity(cleanActivity);
+                    moodEntry.addActivity(checkBox.getActionCommand());
                 }
             }
 
@@ -582,12 +698,10 @@ public class MainView extends JPanel {
                 JOptionPane.showMessageDialog(panel,
                         "✅ Mood entry saved successfully!\n" +
                                 "Your mood: " + selectedMood.getDisplay() + "\n" +
-                                "Activities: " + moodEntry.getActivities().size() + " selected",
+                                "Activities: " + moodEntry.getActivityCount() + " selected",
                         "Success",
                         JOptionPane.INFORMATION_MESSAGE);
-
-                // Refresh mood panel
-                refreshMoodPanel();
+                // Tab mood diganti oleh event MoodLogged
             } else {
                 JOptionPane.showMessageDialog(panel,
                         "❌ You have already made a mood entry today!",
@@ -603,9 +717,8 @@ public class MainView extends JPanel {
     }
 
     private void refreshMoodPanel() {
-        tabbedPane.remove(1); // Remove current mood tab
-        tabbedPane.insertTab("😊 Mood", null, createMoodPanel(), "Mood Tracker", 1);
-        tabbedPane.setSelectedIndex(1); // Select mood tab
+        // Hanya isi tab yang diganti; tab dan posisinya tetap
+        setTabContent(moodTab, createMoodContent());
     }
 
     // ==================== STATISTICS PANEL ====================
@@ -626,16 +739,35 @@ public class MainView extends JPanel {
         contentPanel.setLayout(new BoxLayout(contentPanel, BoxLayout.Y_AXIS));
         contentPanel.setBackground(new Color(240, 248, 255));
 
+        // Semua statistik dihitung sekali untuk seluruh tab; korelasi menyusul dari thread analitik
+        DashboardSnapshot snapshot = new DashboardSnapshot(
+                habitController.getDashboardStats(),
+                moodController.getDashboardStats()
+        );
+        EdtMonitor.recordValue("statisticsDataPasses", snapshot.getDataPasses());
+
         // Habit Statistics Section
-        contentPanel.add(createHabitStatsSection());
+        contentPanel.add(createHabitStatsSection(snapshot.getHabitStats()));
         contentPanel.add(Box.createVerticalStrut(20));
 
         // Mood Statistics Section
-        contentPanel.add(createMoodStatsSection());
+        contentPanel.add(createMoodStatsSection(snapshot.getMoodStats()));
         contentPanel.add(Box.createVerticalStrut(20));
 
         // Insights Section
-        contentPanel.add(createInsightsSection());
+        JPanel insightsHolder = new JPanel(new BorderLayout());
+        insightsHolder.setOpaque(false);
+        insightsHolder.add(createInsightsSection(snapshot), BorderLayout.CENTER);
+        contentPanel.add(insightsHolder);
+
+        AsyncTasks.onEdt(moodController.getHabitCorrelationsAsync(), correlations -> {
+            DashboardSnapshot withCorrelations = new DashboardSnapshot(
+                    snapshot.getHabitStats(), snapshot.getMoodStats(), correlations);
+            insightsHolder.removeAll();
+            insightsHolder.add(createInsightsSection(withCorrelations), BorderLayout.CENTER);
+            insightsHolder.revalidate();
+            insightsHolder.repaint();
+        }, Throwable::printStackTrace);
 
         JScrollPane scrollPane = new JScrollPane(contentPanel);
         scrollPane.setBorder(BorderFactory.createEmptyBorder());
@@ -647,7 +779,7 @@ public class MainView extends JPanel {
         return panel;
     }
 
-    private JPanel createHabitStatsSection() {
+    private JPanel createHabitStatsSection(DashboardSnapshot.HabitStats stats) {
         JPanel panel = new JPanel();
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
         panel.setBackground(Color.WHITE);
@@ -668,28 +800,28 @@ public class MainView extends JPanel {
         statsGrid.setBackground(Color.WHITE);
 
         // Daily Progress
-        double dailyProgress = habitController.getDailyProgress();
+        double dailyProgress = stats.getDailyProgress();
         statsGrid.add(createStatCard("Daily Progress",
                 String.format("%.1f%%", dailyProgress),
                 "Today's completion rate",
                 getProgressColor(dailyProgress)));
 
         // Total Streak
-        int totalStreak = habitController.getTotalStreak();
+        int totalStreak = stats.getTotalStreak();
         statsGrid.add(createStatCard("Total Streak",
                 String.valueOf(totalStreak),
                 "Active days streak",
                 new Color(255, 140, 0)));
 
         // Total Habits
-        int habitCount = habitController.getHabitCount();
+        int habitCount = stats.getHabitCount();
         statsGrid.add(createStatCard("Total Habits",
                 String.valueOf(habitCount),
                 "Active habits",
                 new Color(100, 149, 237)));
 
         // Today's Completions
-        int todayCompletions = habitController.getTodayCompletions();
+        int todayCompletions = stats.getTodayCompletions();
         statsGrid.add(createStatCard("Today's Completions",
                 String.valueOf(todayCompletions),
                 "Habits completed today",
@@ -703,19 +835,19 @@ public class MainView extends JPanel {
         additionalStats.setBackground(Color.WHITE);
 
         // Weekly Completion Rate
-        double weeklyRate = habitController.getWeeklyCompletionRate();
+        double weeklyRate = stats.getWeeklyCompletionRate();
         additionalStats.add(createSmallStatCard("Weekly Rate",
                 String.format("%.1f%%", weeklyRate),
                 getProgressColor(weeklyRate)));
 
         // Best Overall Streak
-        int bestStreak = habitController.getBestOverallStreak();
+        int bestStreak = stats.getBestOverallStreak();
         additionalStats.add(createSmallStatCard("Best Streak",
                 String.valueOf(bestStreak),
                 new Color(255, 69, 0)));
 
         // Most Productive Category
-        String productiveCategory = habitController.getMostProductiveCategory();
+        String productiveCategory = stats.getMostProductiveCategory();
         additionalStats.add(createSmallStatCard("Top Category",
                 productiveCategory.length() > 10 ? productiveCategory.substring(0, 10) + "..." : productiveCategory,
                 new Color(147, 112, 219)));
@@ -725,7 +857,7 @@ public class MainView extends JPanel {
         return panel;
     }
 
-    private JPanel createMoodStatsSection() {
+    private JPanel createMoodStatsSection(DashboardSnapshot.MoodStats stats) {
         JPanel panel = new JPanel();
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
         panel.setBackground(Color.WHITE);
@@ -746,21 +878,21 @@ public class MainView extends JPanel {
         statsGrid.setBackground(Color.WHITE);
 
         // Average Mood
-        double avgMood = moodController.getAverageMood();
+        double avgMood = stats.getAverageMoodLast7Days();
         statsGrid.add(createStatCard("Average Mood",
                 String.format("%.1f/5", avgMood),
                 "7-day average",
                 getMoodColor(avgMood)));
 
         // Total Mood Entries
-        int totalEntries = moodController.getTotalMoodEntries();
+        int totalEntries = stats.getTotalMoodEntries();
         statsGrid.add(createStatCard("Total Entries",
                 String.valueOf(totalEntries),
                 "Mood records",
                 new Color(138, 43, 226)));
 
         // Good Mood Days
-        int goodDays = moodController.getGoodMoodDays();
+        int goodDays = stats.getGoodMoodDays();
         statsGrid.add(createStatCard("Good Mood Days",
                 String.valueOf(goodDays),
                 "Rad/Good days",
@@ -770,13 +902,17 @@ public class MainView extends JPanel {
         panel.add(Box.createVerticalStrut(15));
 
         // Mood Distribution
-        JPanel distributionPanel = createMoodDistributionPanel();
+        JPanel distributionPanel = createMoodDistributionPanel(stats.getMoodDistribution());
         panel.add(distributionPanel);
+        panel.add(Box.createVerticalStrut(15));
+
+        // Activity Impact
+        panel.add(createActivityImpactPanel(stats.getActivityImpacts()));
 
         return panel;
     }
 
-    private JPanel createMoodDistributionPanel() {
+    private JPanel createMoodDistributionPanel(Map<MoodEntry.MoodLevel, Integer> distribution) {
         JPanel panel = new JPanel();
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
         panel.setBackground(Color.WHITE);
@@ -785,7 +921,6 @@ public class MainView extends JPanel {
                 "Mood Distribution"
         ));
 
-        Map<MoodEntry.MoodLevel, Integer> distribution = moodController.getMoodDistribution();
         int total = distribution.values().stream().mapToInt(Integer::intValue).sum();
 
         if (total == 0) {
@@ -822,7 +957,48 @@ public class MainView extends JPanel {
         return panel;
     }
 
-    private JPanel createInsightsSection() {
+    private JPanel createActivityImpactPanel(List<ActivityImpact> impacts) {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(Color.WHITE);
+        panel.setBorder(BorderFactory.createTitledBorder(
+                BorderFactory.createLineBorder(new Color(220, 220, 220), 1),
+                "Activity Impact"
+        ));
+
+        if (impacts.isEmpty()) {
+            JLabel noDataLabel = new JLabel("No activity data available");
+            noDataLabel.setFont(new Font("Arial", Font.ITALIC, 12));
+            noDataLabel.setForeground(Color.GRAY);
+            noDataLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+            panel.add(noDataLabel);
+            return panel;
+        }
+
+        for (ActivityImpact impact : impacts) {
+            JPanel activityRow = new JPanel(new BorderLayout());
+            activityRow.setBackground(Color.WHITE);
+            activityRow.setMaximumSize(new Dimension(400, 30));
+
+            JLabel activityLabel = new JLabel(ActivityDictionary.getInstance().getLabel(impact.getActivity())
+                    + " (" + impact.getEntryCount() + "x)");
+            activityLabel.setFont(new Font("Arial", Font.PLAIN, 12));
+
+            JLabel moodLabel = new JLabel(String.format("%.1f/5 (%+.1f)", impact.getAverageMood(), impact.getMoodDelta()));
+            moodLabel.setFont(new Font("Arial", Font.BOLD, 12));
+            moodLabel.setForeground(getMoodColor(impact.getAverageMood()));
+
+            activityRow.add(activityLabel, BorderLayout.WEST);
+            activityRow.add(moodLabel, BorderLayout.EAST);
+
+            panel.add(activityRow);
+            panel.add(Box.createVerticalStrut(5));
+        }
+
+        return panel;
+    }
+
+    private JPanel createInsightsSection(DashboardSnapshot snapshot) {
         JPanel panel = new JPanel();
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
         panel.setBackground(Color.WHITE);
@@ -839,7 +1015,7 @@ public class MainView extends JPanel {
         panel.add(Box.createVerticalStrut(15));
 
         // Generate insights
-        List<String> insights = generateInsights();
+        List<String> insights = generateInsights(snapshot);
 
         for (String insight : insights) {
             JPanel insightPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
@@ -862,11 +1038,11 @@ public class MainView extends JPanel {
         return panel;
     }
 
-    private List<String> generateInsights() {
+    private List<String> generateInsights(DashboardSnapshot snapshot) {
         List<String> insights = new ArrayList<>();
 
         // Habit insights
-        double progress = habitController.getDailyProgress();
+        double progress = snapshot.getHabitStats().getDailyProgress();
         if (progress >= 80) {
             insights.add("🎯 Excellent! You've completed most of your habits today. Keep up the great work!");
         } else if (progress >= 50) {
@@ -878,7 +1054,7 @@ public class MainView extends JPanel {
         }
 
         // Streak insights
-        int bestStreak = habitController.getBestOverallStreak();
+        int bestStreak = snapshot.getHabitStats().getBestOverallStreak();
         if (bestStreak >= 7) {
             insights.add("🔥 Amazing consistency! You've maintained habits for " + bestStreak + " days straight.");
         } else if (bestStreak >= 3) {
@@ -886,7 +1062,7 @@ public class MainView extends JPanel {
         }
 
         // Mood insights
-        double avgMood = moodController.getAverageMood();
+        double avgMood = snapshot.getMoodStats().getAverageMoodLast7Days();
         if (avgMood >= 4) {
             insights.add("😊 Your mood has been positive recently. Great job maintaining emotional well-being!");
         } else if (avgMood >= 3) {
@@ -895,8 +1071,17 @@ public class MainView extends JPanel {
             insights.add("💭 Your mood could use a boost. Try practicing gratitude or doing something you love.");
         }
 
+        // Habit-mood correlation insights
+        for (HabitMoodCorrelation correlation : snapshot.getCorrelations()) {
+            if (correlation.hasEnoughData() && correlation.getCorrelation() >= 0.3) {
+                insights.add(String.format("🔗 Your mood averages %.1f on days you complete '%s' vs %.1f when you skip it.",
+                        correlation.getMeanMoodDone(), correlation.getHabitName(), correlation.getMeanMoodSkipped()));
+                break;
+            }
+        }
+
         // Completion insights
-        int habitCount = habitController.getHabitCount();
+        int habitCount = snapshot.getHabitStats().getHabitCount();
         if (habitCount > 5) {
             insights.add("📋 You have " + habitCount + " active habits. Consider focusing on your top 3-5 priorities.");
         } else if (habitCount == 0) {
@@ -985,6 +1170,17 @@ public class MainView extends JPanel {
     }
 
     // ==================== UTILITY METHODS ====================
+    private JCheckBox addActivityCheckBox(JPanel activitiesPanel, List<JCheckBox> checkBoxes, String activity) {
+        // Label berisi ikon; nama aktivitas asli disimpan sebagai action command
+        JCheckBox checkBox = new JCheckBox(ActivityDictionary.getInstance().getLabel(activity));
+        checkBox.setActionCommand(activity);
+        checkBox.setFont(new Font("Arial", Font.PLAIN, 12));
+        checkBox.setBackground(Color.WHITE);
+        activitiesPanel.add(checkBox);
+        checkBoxes.add(checkBox);
+        return checkBox;
+    }
+
     private JButton createStyledButton(String text, Color bgColor) {
         JButton button = new JButton(text);
         button.setFont(new Font("Arial", Font.BOLD, 12));
@@ -1011,8 +1207,11 @@ public class MainView extends JPanel {
     }
 
     private void logout() {
-        // Save data and cleanup
-        habitController.shutdown();
+        // Save data and cleanup; journal ditulis di thread I/O
+        habitController.shutdownAsync().exceptionally(error -> {
+            error.printStackTrace();
+            return null;
+        });
 
         // Return to login screen
         JFrame topFrame = (JFrame) SwingUtilities.getWindowAncestor(this);
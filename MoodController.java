@@ -1,14 +1,35 @@
 package com.habittracker.controller;
 
+import com.habittracker.service.MoodCorrelationService;
 import com.habittracker.service.MoodService;
+import com.habittracker.model.ActivityImpact;
+import com.habittracker.model.DashboardSnapshot;
+import com.habittracker.model.HabitMoodCorrelation;
 import com.habittracker.model.MoodEntry;
+import com.habittracker.model.MoodWindowStats;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class MoodController {
     private MoodService moodService;
-    public MoodController() { this.moodService = new MoodService(); }
-    public boolean addMoodEntry(MoodEntry entry) { return moodService.addMoodEntry(entry); }
+    private MoodCorrelationService correlationService;
+    public MoodController() {
+        this.moodService = new MoodService();
+        this.correlationService = new MoodCorrelationService();
+    }
+    public boolean addMoodEntry(MoodEntry entry) {
+        EdtMonitor.label("addMoodEntry");
+        return moodService.addMoodEntry(entry);
+    }
     public boolean hasEntryToday() { return moodService.hasEntryToday(); }
     public MoodEntry getTodayEntry() { return moodService.getTodayEntry(); }
+    public List<String> getAvailableActivities() { return moodService.getAvailableActivities(); }
+    public boolean addCustomActivity(String activity) {
+        EdtMonitor.label("addCustomActivity");
+        return moodService.addCustomActivity(activity);
+    }
     public double getAverageMood() { return moodService.getAverageMoodLast7Days(); }
 
     public int getTotalMoodEntries() {
@@ -26,4 +47,45 @@ public class MoodController {
     public java.util.Map<MoodEntry.MoodLevel, Integer> getMoodDistribution() {
         return moodService.getMoodDistribution();
     }
+
+    public DashboardSnapshot.MoodStats getDashboardStats() {
+        EdtMonitor.label("moodDashboardStats");
+        return moodService.getDashboardStats();
+    }
+
+    public MoodWindowStats getMoodStats(int lastDays) {
+        return moodService.getMoodStatsLastDays(lastDays);
+    }
+
+    public MoodWindowStats getMoodStats(LocalDate from, LocalDate to) {
+        return moodService.getMoodStatsBetween(from, to);
+    }
+
+    public Map<Integer, MoodWindowStats> getTrackedWindowStats() {
+        return moodService.getTrackedWindowStats();
+    }
+
+    public Map<LocalDate, Double> getMoodTrend(int windowDays, int points) {
+        return moodService.getMoodTrend(windowDays, points);
+    }
+
+    public List<ActivityImpact> getActivityImpacts() {
+        return moodService.getActivityImpacts();
+    }
+
+    public int getActivityCoOccurrence(String first, String second) {
+        return moodService.getActivityCoOccurrence(first, second);
+    }
+
+    public List<HabitMoodCorrelation> getHabitCorrelations() {
+        return correlationService.computeCorrelations();
+    }
+
+    /**
+     * Harus dipanggil dari EDT: data disalin di sini, perhitungan di pool analitik
+     */
+    public CompletableFuture<List<HabitMoodCorrelation>> getHabitCorrelationsAsync() {
+        EdtMonitor.label("habitCorrelations");
+        return correlationService.computeCorrelationsAsync(AsyncTasks.analyticsExecutor());
+    }
 }
\ No newline at end of file
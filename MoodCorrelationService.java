@@ -0,0 +1,228 @@
+package com.habittracker.service;
+
+import com.habittracker.model.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Menghubungkan penyelesaian habit dengan mood harian. Data disejajarkan per hari
+ * ke array primitif, lalu setiap habit dihitung paralel tanpa menyentuh objek model.
+ */
+public class MoodCorrelationService {
+    // Jumlah potongan habit yang dibagikan ke executor analitik
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    private AppRepository repository;
+
+    public MoodCorrelationService() {
+        this.repository = AppRepository.getInstance();
+    }
+
+    /**
+     * Korelasi semua habit terhadap mood, diurutkan dari yang paling positif
+     */
+    public List<HabitMoodCorrelation> computeCorrelations() {
+        AppData data = repository.getData();
+        return computeCorrelations(data.getHabits(), data.getMoodEntries());
+    }
+
+    /**
+     * Seperti computeCorrelations(), tetapi hanya penyalinan data yang berjalan di
+     * thread pemanggil; penyejajaran dan perhitungan per habit dibagi ke executor.
+     */
+    public CompletableFuture<List<HabitMoodCorrelation>> computeCorrelationsAsync(Executor executor) {
+        AppData data = repository.getData();
+        CorrelationInput input = prepare(data.getHabits(), data.getMoodEntries());
+        return CompletableFuture.supplyAsync(() -> align(input), executor).thenCompose(moods -> {
+            HabitMoodCorrelation[] results = new HabitMoodCorrelation[input.bits.length];
+            int chunk = Math.max(1, (results.length + PARALLELISM - 1) / PARALLELISM);
+            List<CompletableFuture<Void>> parts = new ArrayList<>();
+            for (int from = 0; from < results.length; from += chunk) {
+                int start = from;
+                int end = Math.min(results.length, from + chunk);
+                parts.add(CompletableFuture.runAsync(() -> correlateRange(input, moods, results, start, end), executor));
+            }
+            return CompletableFuture.allOf(parts.toArray(new CompletableFuture<?>[0]))
+                    .thenApply(ignored -> sorted(results, moods));
+        });
+    }
+
+    /**
+     * Versi sinkron; seluruh perhitungan berjalan di thread pemanggil
+     */
+    public static List<HabitMoodCorrelation> computeCorrelations(List<Habit> habits, List<MoodEntry> moodEntries) {
+        CorrelationInput input = prepare(habits, moodEntries);
+        AlignedMoods moods = align(input);
+        HabitMoodCorrelation[] results = new HabitMoodCorrelation[input.bits.length];
+        correlateRange(input, moods, results, 0, results.length);
+        return sorted(results, moods);
+    }
+
+    /**
+     * Menyalin semua yang dibaca perhitungan (bit penyelesaian, hari dan nilai mood) supaya
+     * perhitungan bisa berjalan di thread lain sementara model tetap diubah di EDT
+     */
+    private static CorrelationInput prepare(List<Habit> habits, List<MoodEntry> moodEntries) {
+        int count = moodEntries.size();
+        long[] moodDays = new long[count];
+        byte[] moodValues = new byte[count];
+        if (count == 0 || habits.isEmpty()) {
+            return new CorrelationInput(new String[0], new String[0], new long[0][], new long[0],
+                    moodDays, moodValues, 0);
+        }
+
+        long firstDay = Long.MAX_VALUE;
+        long lastDay = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            long day = ColumnarMoodList.epochDay(moodEntries, i);
+            moodDays[i] = day;
+            moodValues[i] = (byte) ColumnarMoodList.moodValue(moodEntries, i);
+            firstDay = Math.min(firstDay, day);
+            lastDay = Math.max(lastDay, day);
+        }
+
+        int span = (int) (lastDay - firstDay + 1);
+        LocalDate from = LocalDate.ofEpochDay(firstDay);
+        String[] ids = new String[habits.size()];
+        String[] names = new String[habits.size()];
+        long[][] bits = new long[habits.size()][];
+        long[] startDays = new long[habits.size()];
+        for (int i = 0; i < habits.size(); i++) {
+            Habit habit = habits.get(i);
+            ids[i] = habit.getId();
+            names[i] = habit.getName();
+            bits[i] = habit.getCompletionBits(from, span);
+            // Hari sebelum habit dibuat bukan hari "dilewati", jadi tidak ikut sampel
+            LocalDate created = habit.getCreatedDate();
+            startDays[i] = created != null ? Math.max(firstDay, created.toEpochDay()) : firstDay;
+        }
+        return new CorrelationInput(ids, names, bits, startDays, moodDays, moodValues, firstDay);
+    }
+
+    // Satu nilai mood per hari, terurut, dengan prefix sum agar total per jendela habit O(1)
+    private static AlignedMoods align(CorrelationInput input) {
+        MoodSeries series = new MoodSeries();
+        series.rebuild(input.moodDays, input.moodValues);
+        long[] days = series.getDays();
+        byte[] values = series.getValues();
+
+        int[] offsets = new int[days.length];
+        long[] prefixSum = new long[days.length + 1];
+        long[] prefixSquares = new long[days.length + 1];
+        for (int i = 0; i < days.length; i++) {
+            // Offset hari tiap sampel mood relatif ke hari mood pertama (bit 0 bitmap habit)
+            offsets[i] = (int) (days[i] - input.firstDay);
+            prefixSum[i + 1] = prefixSum[i] + values[i];
+            prefixSquares[i + 1] = prefixSquares[i] + values[i] * values[i];
+        }
+        return new AlignedMoods(days, offsets, values, prefixSum, prefixSquares);
+    }
+
+    private static void correlateRange(CorrelationInput input, AlignedMoods moods,
+                                       HabitMoodCorrelation[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            results[i] = correlate(input.habitIds[i], input.habitNames[i], input.bits[i], input.startDays[i], moods);
+        }
+    }
+
+    private static List<HabitMoodCorrelation> sorted(HabitMoodCorrelation[] results, AlignedMoods moods) {
+        if (moods.days.length == 0) return new ArrayList<>();
+        List<HabitMoodCorrelation> sorted = new ArrayList<>(Arrays.asList(results));
+        sorted.sort(Comparator.comparingDouble(HabitMoodCorrelation::getCorrelation).reversed());
+        return sorted;
+    }
+
+    private static HabitMoodCorrelation correlate(String habitId, String habitName, long[] bits, long startDay,
+                                                  AlignedMoods moods) {
+        int first = moods.lowerBound(startDay);
+        int last = moods.days.length;
+        int samples = last - first;
+        if (samples == 0) return new HabitMoodCorrelation(habitId, habitName, 0, 0, 0.0, 0.0, 0.0, 0.0);
+
+        long totalSum = moods.prefixSum[last] - moods.prefixSum[first];
+        long totalSquares = moods.prefixSquares[last] - moods.prefixSquares[first];
+        int done = 0;
+        long doneSum = 0;
+        for (int k = first; k < last; k++) {
+            int offset = moods.offsets[k];
+            if (((bits[offset >>> 6] >>> offset) & 1L) != 0) {
+                done++;
+                doneSum += moods.values[k];
+            }
+        }
+
+        double mean = (double) totalSum / samples;
+        double variance = Math.max((double) totalSquares / samples - mean * mean, 0.0);
+        int skipped = samples - done;
+        double meanDone = done > 0 ? (double) doneSum / done : 0.0;
+        double meanSkipped = skipped > 0 ? (double) (totalSum - doneSum) / skipped : 0.0;
+
+        // Korelasi point-biserial antara "dikerjakan" (0/1) dan nilai mood
+        double correlation = 0.0;
+        if (done > 0 && skipped > 0 && variance > 0) {
+            double p = (double) done / samples;
+            correlation = (meanDone - meanSkipped) * Math.sqrt(p * (1 - p)) / Math.sqrt(variance);
+        }
+        double lift = done > 0 && mean > 0 ? meanDone / mean : 0.0;
+
+        return new HabitMoodCorrelation(habitId, habitName, samples, done,
+                meanDone, meanSkipped, correlation, lift);
+    }
+
+    // Salinan data yang tidak berubah lagi setelah prepare()
+    private static class CorrelationInput {
+        final String[] habitIds;
+        final String[] habitNames;
+        final long[][] bits;
+        // Hari pertama yang dihitung per habit: max(hari mood pertama, tanggal dibuat)
+        final long[] startDays;
+        final long[] moodDays;
+        final byte[] moodValues;
+        final long firstDay;
+
+        CorrelationInput(String[] habitIds, String[] habitNames, long[][] bits, long[] startDays,
+                         long[] moodDays, byte[] moodValues, long firstDay) {
+            this.habitIds = habitIds;
+            this.habitNames = habitNames;
+            this.bits = bits;
+            this.startDays = startDays;
+            this.moodDays = moodDays;
+            this.moodValues = moodValues;
+            this.firstDay = firstDay;
+        }
+    }
+
+    // Hasil align(); hanya dibaca setelah dibuat sehingga aman dipakai banyak thread
+    private static class AlignedMoods {
+        final long[] days;
+        final int[] offsets;
+        final byte[] values;
+        final long[] prefixSum;
+        final long[] prefixSquares;
+
+        AlignedMoods(long[] days, int[] offsets, byte[] values, long[] prefixSum, long[] prefixSquares) {
+            this.days = days;
+            this.offsets = offsets;
+            this.values = values;
+            this.prefixSum = prefixSum;
+            this.prefixSquares = prefixSquares;
+        }
+
+        // Indeks pertama dengan days[i] >= day
+        int lowerBound(long day) {
+            int lo = 0;
+            int hi = days.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (days[mid] < day) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+    }
+}
\ No newline at end of file
@@ -1,11 +1,25 @@
 package com.habittracker.model;
 
-import java.io.Serializable;
+import java.io.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class MoodEntry implements Serializable {
+    // Sama dengan UID hasil hitungan versi lama agar data yang ada tetap terbaca
+    private static final long serialVersionUID = -5263698660826574651L;
+
+    // Aktivitas tetap disimpan sebagai list nama; di memori berupa bitset id ActivityDictionary
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("id", String.class),
+            new ObjectStreamField("mood", MoodLevel.class),
+            new ObjectStreamField("activities", List.class),
+            new ObjectStreamField("timestamp", LocalDateTime.class),
+            new ObjectStreamField("notes", String.class)
+    };
+    private static final long[] NO_ACTIVITIES = new long[0];
+
     public enum MoodLevel {
         RAD(5, "😊 Rad", "#4CAF50"),
         GOOD(4, "🙂 Good", "#8BC34A"),
@@ -26,36 +40,139 @@ public class MoodEntry implements Serializable {
         public int getValue() { return value; }
         public String getDisplay() { return display; }
         public String getColor() { return color; }
+
+        /**
+         * Level dengan nilai 1-5; IllegalArgumentException untuk nilai lain
+         */
+        public static MoodLevel fromValue(int value) {
+            if (value < 1 || value >= BY_VALUE.length) throw new IllegalArgumentException("Unknown mood value: " + value);
+            return BY_VALUE[value];
+        }
+
+        private static final MoodLevel[] BY_VALUE = new MoodLevel[6];
+
+        static {
+            for (MoodLevel level : values()) BY_VALUE[level.value] = level;
+        }
     }
 
     private String id;
     private MoodLevel mood;
-    private List<String> activities;
+    private long[] activityBits;
     private LocalDateTime timestamp;
     private String notes;
 
     public MoodEntry(MoodLevel mood) {
-        this.id = java.util.UUID.randomUUID().toString();
+        this(mood, LocalDateTime.now());
+    }
+
+    /**
+     * Entry dengan waktu tertentu (misalnya data yang diimpor atau dibangkitkan)
+     */
+    public MoodEntry(MoodLevel mood, LocalDateTime timestamp) {
+        this(java.util.UUID.randomUUID().toString(), mood, timestamp);
+    }
+
+    public MoodEntry(String id, MoodLevel mood, LocalDateTime timestamp) {
+        this.id = id;
         this.mood = mood;
-        this.activities = new ArrayList<>();
-        this.timestamp = LocalDateTime.now();
+        this.activityBits = NO_ACTIVITIES;
+        this.timestamp = timestamp;
     }
 
     public void addActivity(String activity) {
-        if (!activities.contains(activity)) {
-            activities.add(activity);
+        int id = ActivityDictionary.getInstance().intern(activity);
+        int word = id >>> 6;
+        if (word >= activityBits.length) {
+            activityBits = Arrays.copyOf(activityBits, word + 1);
         }
+        activityBits[word] |= 1L << id;
+    }
+
+    /**
+     * Mengganti semua aktivitas sekaligus dengan bitset id ActivityDictionary
+     */
+    public void setActivityBits(long[] bits) {
+        this.activityBits = bits.length > 0 ? bits.clone() : NO_ACTIVITIES;
     }
 
     public void removeActivity(String activity) {
-        activities.remove(activity);
+        int id = ActivityDictionary.getInstance().idOf(activity);
+        if (id >= 0 && (id >>> 6) < activityBits.length) {
+            activityBits[id >>> 6] &= ~(1L << id);
+        }
+    }
+
+    public boolean hasActivity(int activityId) {
+        int word = activityId >>> 6;
+        return word < activityBits.length && (activityBits[word] & (1L << activityId)) != 0;
+    }
+
+    public boolean hasActivity(String activity) {
+        int id = ActivityDictionary.getInstance().idOf(activity);
+        return id >= 0 && hasActivity(id);
+    }
+
+    public int getActivityCount() {
+        int count = 0;
+        for (long word : activityBits) count += Long.bitCount(word);
+        return count;
+    }
+
+    /**
+     * Salinan bitset aktivitas; bit ke-i berarti aktivitas dengan id i di ActivityDictionary
+     */
+    public long[] getActivityBits() {
+        return activityBits.clone();
     }
 
     public String getId() { return id; }
     public MoodLevel getMood() { return mood; }
     public void setMood(MoodLevel mood) { this.mood = mood; }
-    public List<String> getActivities() { return activities; }
+    /**
+     * Salinan nama aktivitas, urut menurut id di ActivityDictionary. List boleh diubah pemanggil,
+     * tetapi perubahannya tidak masuk ke entry; gunakan addActivity/removeActivity
+     */
+    public List<String> getActivities() {
+        List<String> names = new ArrayList<>(getActivityCount());
+        ActivityDictionary dictionary = ActivityDictionary.getInstance();
+        for (int word = 0; word < activityBits.length; word++) {
+            long bits = activityBits[word];
+            while (bits != 0) {
+                names.add(dictionary.nameOf((word << 6) + Long.numberOfTrailingZeros(bits)));
+                bits &= bits - 1;
+            }
+        }
+        return names;
+    }
     public LocalDateTime getTimestamp() { return timestamp; }
     public String getNotes() { return notes; }
     public void setNotes(String notes) { this.notes = notes; }
+
+    // ==================== SERIALIZATION ====================
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("id", id);
+        fields.put("mood", mood);
+        fields.put("activities", getActivities());
+        fields.put("timestamp", timestamp);
+        fields.put("notes", notes);
+        out.writeFields();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        id = (String) fields.get("id", null);
+        mood = (MoodLevel) fields.get("mood", null);
+        timestamp = (LocalDateTime) fields.get("timestamp", null);
+        notes = (String) fields.get("notes", null);
+
+        activityBits = NO_ACTIVITIES;
+        List<String> names = (List<String>) fields.get("activities", null);
+        if (names != null) {
+            for (String name : names) addActivity(name);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,170 @@
+package com.habittracker.service;
+
+import com.habittracker.model.ColumnarMoodList;
+import com.habittracker.model.MoodEntry;
+import com.habittracker.model.MoodWindowStats;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Deret mood harian (satu nilai per hari, diurutkan menurut epoch day) dengan
+ * prefix sum untuk jumlah, kuadrat, dan jumlah per level mood. Statistik
+ * jendela apa pun dihitung dengan dua binary search, jadi O(log n).
+ */
+public class MoodSeries {
+    private static final int LEVELS = 5;
+
+    private long[] days = new long[16];
+    private byte[] values = new byte[16];
+    // prefix[i] = akumulasi untuk i nilai pertama; panjangnya size + 1
+    private long[] prefixSum = new long[17];
+    private long[] prefixSquares = new long[17];
+    private int[][] prefixLevelCounts = new int[LEVELS][17];
+    private int size;
+
+    /**
+     * Membangun ulang deret dari semua entry (entry pertama per hari yang dipakai)
+     */
+    public void rebuild(List<MoodEntry> entries) {
+        DataPassCounter.record();
+        long[] entryDays = new long[entries.size()];
+        byte[] entryValues = new byte[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            entryDays[i] = ColumnarMoodList.epochDay(entries, i);
+            entryValues[i] = (byte) ColumnarMoodList.moodValue(entries, i);
+        }
+        rebuild(entryDays, entryValues);
+    }
+
+    /**
+     * Membangun ulang deret dari kolom hari dan nilai yang sejajar (urutan bebas)
+     */
+    public void rebuild(long[] entryDays, byte[] entryValues) {
+        long minDay = Long.MAX_VALUE;
+        for (long day : entryDays) minDay = Math.min(minDay, day);
+
+        // Kunci (hari relatif << 32 | indeks) diurutkan sebagai long primitif: untuk hari
+        // yang sama indeks lebih kecil tetap di depan, jadi entry yang lebih dulu tercatat menang
+        long[] keys = new long[entryDays.length];
+        for (int i = 0; i < keys.length; i++) keys[i] = ((entryDays[i] - minDay) << 32) | i;
+        Arrays.sort(keys);
+
+        size = 0;
+        for (long key : keys) {
+            int i = (int) key;
+            if (size == 0 || days[size - 1] != entryDays[i]) append(entryDays[i], entryValues[i]);
+        }
+    }
+
+    /**
+     * Menambahkan satu entry. Entry untuk hari yang sudah ada diabaikan.
+     */
+    public void add(MoodEntry entry) {
+        long day = entry.getTimestamp().toLocalDate().toEpochDay();
+        byte value = (byte) entry.getMood().getValue();
+        if (size == 0 || day > days[size - 1]) {
+            append(day, value);
+            return;
+        }
+
+        int position = lowerBound(day);
+        if (position < size && days[position] == day) return;
+
+        // Jarang terjadi (entry masa lalu): sisipkan lalu hitung ulang prefix dari posisi itu
+        ensureCapacity(size + 1);
+        System.arraycopy(days, position, days, position + 1, size - position);
+        System.arraycopy(values, position, values, position + 1, size - position);
+        days[position] = day;
+        values[position] = value;
+        size++;
+        for (int i = position; i < size; i++) updatePrefix(i);
+    }
+
+    public int size() { return size; }
+
+    /**
+     * Salinan epoch day setiap nilai, terurut naik
+     */
+    public long[] getDays() { return Arrays.copyOf(days, size); }
+
+    /**
+     * Salinan nilai mood (1-5), sejajar dengan getDays()
+     */
+    public byte[] getValues() { return Arrays.copyOf(values, size); }
+
+    /**
+     * Statistik untuk rentang [from, to] inklusif
+     */
+    public MoodWindowStats getWindow(LocalDate from, LocalDate to) {
+        int lo = lowerBound(from.toEpochDay());
+        int hi = lowerBound(to.toEpochDay() + 1);
+        int count = Math.max(hi - lo, 0);
+        if (count == 0) return new MoodWindowStats(from, to, 0, 0.0, 0, 0, 0.0);
+
+        double sum = prefixSum[hi] - prefixSum[lo];
+        double squares = prefixSquares[hi] - prefixSquares[lo];
+        double average = sum / count;
+        double variance = Math.max(squares / count - average * average, 0.0);
+
+        int minimum = 0;
+        int maximum = 0;
+        for (int level = 1; level <= LEVELS; level++) {
+            if (prefixLevelCounts[level - 1][hi] - prefixLevelCounts[level - 1][lo] > 0) {
+                if (minimum == 0) minimum = level;
+                maximum = level;
+            }
+        }
+        return new MoodWindowStats(from, to, count, average, minimum, maximum, variance);
+    }
+
+    /**
+     * Nilai mood pada hari tertentu, 0 jika tidak ada entry
+     */
+    public int getValue(LocalDate date) {
+        long day = date.toEpochDay();
+        int position = lowerBound(day);
+        return position < size && days[position] == day ? values[position] : 0;
+    }
+
+    private void append(long day, byte value) {
+        ensureCapacity(size + 1);
+        days[size] = day;
+        values[size] = value;
+        updatePrefix(size);
+        size++;
+    }
+
+    private void updatePrefix(int i) {
+        int value = values[i];
+        prefixSum[i + 1] = prefixSum[i] + value;
+        prefixSquares[i + 1] = prefixSquares[i] + (long) value * value;
+        for (int level = 0; level < LEVELS; level++) {
+            prefixLevelCounts[level][i + 1] = prefixLevelCounts[level][i] + (value == level + 1 ? 1 : 0);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= days.length) return;
+        int newCapacity = Math.max(capacity, days.length * 2);
+        days = Arrays.copyOf(days, newCapacity);
+        values = Arrays.copyOf(values, newCapacity);
+        prefixSum = Arrays.copyOf(prefixSum, newCapacity + 1);
+        prefixSquares = Arrays.copyOf(prefixSquares, newCapacity + 1);
+        for (int level = 0; level < LEVELS; level++) {
+            prefixLevelCounts[level] = Arrays.copyOf(prefixLevelCounts[level], newCapacity + 1);
+        }
+    }
+
+    // Indeks pertama dengan days[i] >= day
+    private int lowerBound(long day) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (days[mid] < day) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
\ No newline at end of file
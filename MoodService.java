@@ -5,12 +5,19 @@ import java.time.LocalDate;
 import java.util.List;
 
 public class MoodService {
-    private DataService dataService;
+    // Jendela rolling yang dipantau di dashboard (dalam hari)
+    public static final int[] TRACKED_WINDOWS = {7, 30, 90, 365};
+
+    private AppRepository repository;
     private AppData appData;
+    private MoodSeries moodSeries;
+    private ActivityAnalyticsService activityAnalytics;
 
     public MoodService() {
-        this.dataService = new DataService();
-        this.appData = dataService.loadData();
+        this.repository = AppRepository.getInstance();
+        this.appData = repository.getData();
+        this.moodSeries = repository.getMoodSeries();
+        this.activityAnalytics = repository.getActivityAnalytics();
     }
 
     public boolean addMoodEntry(MoodEntry entry) {
@@ -19,13 +26,47 @@ public class MoodService {
         }
 
         appData.addMoodEntry(entry);
-        try {
-            dataService.saveData(appData);
-            return true;
-        } catch (Exception e) {
-            e.printStackTrace();
+        moodSeries.add(entry);
+        activityAnalytics.entryAdded(entry);
+        appendRecord(new JournalRecord.MoodEntryAdded(entry));
+        EventBus.getInstance().publish(new DomainEvent.MoodLogged(entry));
+        return true;
+    }
+
+    /**
+     * Aktivitas bawaan diikuti aktivitas custom milik user yang login
+     */
+    public List<String> getAvailableActivities() {
+        List<String> activities = new java.util.ArrayList<>(ActivityDictionary.getInstance().getDefaultActivities());
+        for (String custom : appData.getCustomActivities(getActivityOwner())) {
+            if (!activities.contains(custom)) activities.add(custom);
+        }
+        return activities;
+    }
+
+    public boolean addCustomActivity(String activity) {
+        String name = activity.trim();
+        if (name.isEmpty() || ActivityDictionary.getInstance().getDefaultActivities().contains(name)) {
             return false;
         }
+
+        String owner = getActivityOwner();
+        if (!appData.addCustomActivity(owner, name)) {
+            return false;
+        }
+        appendRecord(new JournalRecord.CustomActivityAdded(owner, name));
+        EventBus.getInstance().publish(new DomainEvent.ActivityAdded(name));
+        return true;
+    }
+
+    // Seperti HabitService: perubahan di memori sudah berlaku, kegagalan journal hanya dicatat
+    private void appendRecord(JournalRecord record) {
+        try { repository.record(record); } catch (Exception e) { e.printStackTrace(); }
+    }
+
+    private String getActivityOwner() {
+        User user = repository.getCurrentUser();
+        return user != null ? user.getUsername() : "default";
     }
 
     public boolean hasEntryToday() {
@@ -33,11 +74,7 @@ public class MoodService {
     }
 
     public MoodEntry getTodayEntry() {
-        LocalDate today = LocalDate.now();
-        return appData.getMoodEntries().stream()
-                .filter(e -> e.getTimestamp().toLocalDate().equals(today))
-                .findFirst()
-                .orElse(null);
+        return appData.getTodayMoodEntry();
     }
 
     public List<MoodEntry> getAllEntries() {
@@ -49,28 +86,48 @@ public class MoodService {
      * Return 0.0 jika tidak ada data
      */
     public double getAverageMoodLast7Days() {
-        List<MoodEntry> entries = appData.getMoodEntries();
-        if (entries.isEmpty()) {
-            return 0.0;
-        }
+        LocalDate today = LocalDate.now();
+        return moodSeries.getWindow(today.minusDays(7), today).getAverage();
+    }
 
-        LocalDate weekAgo = LocalDate.now().minusDays(7);
+    /**
+     * Statistik mood untuk N hari terakhir (termasuk hari ini); O(log n)
+     */
+    public MoodWindowStats getMoodStatsLastDays(int days) {
+        LocalDate today = LocalDate.now();
+        return moodSeries.getWindow(today.minusDays(days - 1), today);
+    }
 
-        // Filter entries dalam 7 hari terakhir
-        List<MoodEntry> recentEntries = entries.stream()
-                .filter(e -> !e.getTimestamp().toLocalDate().isBefore(weekAgo))
-                .toList();
+    /**
+     * Statistik mood untuk rentang tanggal bebas [from, to]; O(log n)
+     */
+    public MoodWindowStats getMoodStatsBetween(LocalDate from, LocalDate to) {
+        return moodSeries.getWindow(from, to);
+    }
 
-        if (recentEntries.isEmpty()) {
-            return 0.0;
+    /**
+     * Statistik untuk setiap jendela di TRACKED_WINDOWS
+     */
+    public java.util.Map<Integer, MoodWindowStats> getTrackedWindowStats() {
+        java.util.Map<Integer, MoodWindowStats> stats = new java.util.LinkedHashMap<>();
+        for (int days : TRACKED_WINDOWS) {
+            stats.put(days, getMoodStatsLastDays(days));
         }
+        return stats;
+    }
 
-        // Hitung rata-rata
-        double sum = recentEntries.stream()
-                .mapToInt(e -> e.getMood().getValue())
-                .sum();
-
-        return sum / recentEntries.size();
+    /**
+     * Rata-rata rolling per hari untuk grafik tren: titik terakhir adalah hari ini,
+     * tiap titik merangkum windowDays hari yang berakhir di tanggal itu (0.0 jika kosong)
+     */
+    public java.util.Map<LocalDate, Double> getMoodTrend(int windowDays, int points) {
+        java.util.Map<LocalDate, Double> trend = new java.util.LinkedHashMap<>();
+        LocalDate today = LocalDate.now();
+        for (int i = points - 1; i >= 0; i--) {
+            LocalDate end = today.minusDays(i);
+            trend.put(end, moodSeries.getWindow(end.minusDays(windowDays - 1), end).getAverage());
+        }
+        return trend;
     }
 
     /**
@@ -84,9 +141,12 @@ public class MoodService {
             distribution.put(mood, 0);
         }
 
-        // Hitung jumlah untuk setiap mood
-        for (MoodEntry entry : appData.getMoodEntries()) {
-            distribution.put(entry.getMood(), distribution.get(entry.getMood()) + 1);
+        // Hitung jumlah untuk setiap mood (lewat kolom nilai, tanpa membuat entry)
+        List<MoodEntry> entries = appData.getMoodEntries();
+        DataPassCounter.record();
+        for (int i = 0; i < entries.size(); i++) {
+            MoodEntry.MoodLevel mood = MoodEntry.MoodLevel.fromValue(ColumnarMoodList.moodValue(entries, i));
+            distribution.put(mood, distribution.get(mood) + 1);
         }
 
         return distribution;
@@ -108,9 +168,60 @@ public class MoodService {
      * Mendapatkan jumlah hari dengan mood baik (Rad atau Good)
      */
     public int getGoodMoodDays() {
-        return (int) appData.getMoodEntries().stream()
-                .filter(e -> e.getMood() == MoodEntry.MoodLevel.RAD || e.getMood() == MoodEntry.MoodLevel.GOOD)
-                .count();
+        List<MoodEntry> entries = appData.getMoodEntries();
+        DataPassCounter.record();
+        int count = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            if (ColumnarMoodList.moodValue(entries, i) >= MoodEntry.MoodLevel.GOOD.getValue()) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Semua statistik mood untuk tab Statistics dalam satu lintasan atas entries
+     */
+    public DashboardSnapshot.MoodStats getDashboardStats() {
+        long passesBefore = DataPassCounter.get();
+        java.util.Map<MoodEntry.MoodLevel, Integer> distribution = new java.util.EnumMap<>(MoodEntry.MoodLevel.class);
+        for (MoodEntry.MoodLevel mood : MoodEntry.MoodLevel.values()) {
+            distribution.put(mood, 0);
+        }
+
+        List<MoodEntry> entries = appData.getMoodEntries();
+        DataPassCounter.record();
+        for (int i = 0; i < entries.size(); i++) {
+            distribution.merge(MoodEntry.MoodLevel.fromValue(ColumnarMoodList.moodValue(entries, i)), 1, Integer::sum);
+        }
+
+        MoodEntry.MoodLevel mostFrequent = MoodEntry.MoodLevel.MEH;
+        int mostFrequentCount = -1;
+        for (java.util.Map.Entry<MoodEntry.MoodLevel, Integer> entry : distribution.entrySet()) {
+            if (entry.getValue() > mostFrequentCount) {
+                mostFrequent = entry.getKey();
+                mostFrequentCount = entry.getValue();
+            }
+        }
+
+        return new DashboardSnapshot.MoodStats(
+                getAverageMoodLast7Days(),
+                appData.getMoodEntries().size(),
+                distribution.get(MoodEntry.MoodLevel.RAD) + distribution.get(MoodEntry.MoodLevel.GOOD),
+                mostFrequent,
+                distribution,
+                activityAnalytics.getImpacts(),
+                (int) (DataPassCounter.get() - passesBefore)
+        );
+    }
+
+    /**
+     * Peringkat aktivitas menurut rata-rata mood; dibaca dari agregat, tanpa memindai riwayat
+     */
+    public List<ActivityImpact> getActivityImpacts() {
+        return activityAnalytics.getImpacts();
+    }
+
+    public int getActivityCoOccurrence(String first, String second) {
+        return activityAnalytics.getCoOccurrence(first, second);
     }
 
     /**
@@ -0,0 +1,40 @@
+package com.habittracker.model;
+
+import java.time.LocalDate;
+
+/**
+ * Ringkasan mood dalam satu rentang tanggal (rata-rata, minimum, maksimum, varians)
+ */
+public class MoodWindowStats {
+    private final LocalDate from;
+    private final LocalDate to;
+    private final int entryCount;
+    private final double average;
+    private final int minimum;
+    private final int maximum;
+    private final double variance;
+
+    public MoodWindowStats(LocalDate from, LocalDate to, int entryCount,
+                           double average, int minimum, int maximum, double variance) {
+        this.from = from;
+        this.to = to;
+        this.entryCount = entryCount;
+        this.average = average;
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.variance = variance;
+    }
+
+    public LocalDate getFrom() { return from; }
+    public LocalDate getTo() { return to; }
+    public int getEntryCount() { return entryCount; }
+    public boolean isEmpty() { return entryCount == 0; }
+    /** 0.0 jika tidak ada data */
+    public double getAverage() { return average; }
+    /** 0 jika tidak ada data */
+    public int getMinimum() { return minimum; }
+    /** 0 jika tidak ada data */
+    public int getMaximum() { return maximum; }
+    public double getVariance() { return variance; }
+    public double getStandardDeviation() { return Math.sqrt(variance); }
+}
\ No newline at end of file
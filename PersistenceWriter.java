@@ -0,0 +1,228 @@
+package com.habittracker.service;
+
+import com.habittracker.model.AppData;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread persistence tunggal. Record journal yang masuk dalam satu jendela waktu
+ * digabung menjadi satu penulisan, dan snapshot selalu ditulis lewat file
+ * sementara + fsync + atomic rename sehingga crash tidak merusak data lama.
+ */
+public class PersistenceWriter {
+    public static final long DEFAULT_WINDOW_MILLIS =
+            Long.getLong("habittracker.persistence.windowMillis", 300);
+
+    private final Path dataFile;
+    // Generasi snapshot berikutnya, dipakai jika dataFile tidak bisa diganti (lihat replaceSnapshot)
+    private final Path nextDataFile;
+    private final Path journalFile;
+    private final long compactionThresholdBytes;
+    private final long windowMillis;
+    private final ScheduledExecutorService executor;
+    private final List<byte[]> pending = new ArrayList<>();
+    private final AtomicInteger writeCount = new AtomicInteger();
+    private ScheduledFuture<?> scheduledDrain;
+    // Mati setelah snapshot gagal dibaca untuk pemadatan, supaya tidak dicoba ulang di setiap drain
+    private volatile boolean compactionEnabled = true;
+    private volatile Thread writerThread;
+
+    public PersistenceWriter(Path dataFile, Path nextDataFile, Path journalFile,
+                             long compactionThresholdBytes, long windowMillis) {
+        this.dataFile = dataFile;
+        this.nextDataFile = nextDataFile;
+        this.journalFile = journalFile;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        this.windowMillis = windowMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "habittracker-persistence");
+            thread.setDaemon(true);
+            writerThread = thread;
+            return thread;
+        });
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "habittracker-persistence-flush"));
+    }
+
+    /**
+     * Menandai ada perubahan; penulisan dijadwalkan di akhir jendela coalescing
+     */
+    public synchronized void enqueue(byte[] record) {
+        pending.add(record);
+        if (scheduledDrain == null) {
+            scheduledDrain = executor.schedule(this::drain, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Menulis semua perubahan yang tertunda dan menunggu sampai selesai
+     */
+    public void flush() {
+        try {
+            runOnWriter(() -> {
+                drain();
+                return null;
+            });
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Mengganti snapshot secara atomik; perubahan tertunda ditulis terlebih dahulu
+     */
+    public void writeSnapshot(byte[] snapshot) throws IOException {
+        runOnWriter(() -> {
+            drain();
+            replaceSnapshot(snapshot);
+            compactionEnabled = true;
+            return null;
+        });
+    }
+
+    /**
+     * Menulis file kecil lain (mis. data user) dengan jaminan atomik yang sama
+     */
+    public void writeFile(Path target, byte[] content) throws IOException {
+        runOnWriter(() -> {
+            writeAtomically(target, content);
+            return null;
+        });
+    }
+
+    /**
+     * Berhenti memadatkan journal sampai snapshot baru ditulis lewat writeSnapshot()
+     */
+    public void disableCompaction() {
+        compactionEnabled = false;
+    }
+
+    /**
+     * Jumlah operasi tulis ke disk sejak aplikasi berjalan
+     */
+    public int getWriteCount() { return writeCount.get(); }
+
+    private void drain() {
+        List<byte[]> batch;
+        synchronized (this) {
+            if (scheduledDrain != null) {
+                scheduledDrain.cancel(false);
+                scheduledDrain = null;
+            }
+            if (pending.isEmpty()) return;
+            batch = new ArrayList<>(pending);
+            pending.clear();
+        }
+
+        try {
+            appendToJournal(batch);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+        if (compactionEnabled) compactIfNeeded();
+    }
+
+    private void compactIfNeeded() {
+        try {
+            if (Files.size(journalFile) <= compactionThresholdBytes) return;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        AppData data;
+        try {
+            data = new DataService().readForCompaction();
+        } catch (IOException e) {
+            // Snapshot tidak terbaca: journal tetap utuh, dan pemadatan tidak dicoba lagi di setiap drain
+            e.printStackTrace();
+            compactionEnabled = false;
+            return;
+        }
+        try {
+            replaceSnapshot(DataService.serialize(data));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void appendToJournal(List<byte[]> batch) throws IOException {
+        int size = 0;
+        for (byte[] record : batch) size += record.length;
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (byte[] record : batch) buffer.put(record);
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(journalFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) channel.write(buffer);
+            channel.force(false);
+        }
+        writeCount.incrementAndGet();
+    }
+
+    /**
+     * Snapshot yang sedang di-map tidak bisa ditimpa lewat rename di Windows. Jika itu terjadi,
+     * snapshot ditulis ke nextDataFile dan baru menggantikan dataFile saat load berikutnya.
+     * Selama nextDataFile ada, file itulah yang terbaru, jadi semua snapshot berikutnya juga ke sana.
+     */
+    private void replaceSnapshot(byte[] snapshot) throws IOException {
+        if (Files.exists(nextDataFile)) {
+            writeAtomically(nextDataFile, snapshot);
+        } else {
+            try {
+                writeAtomically(dataFile, snapshot);
+            } catch (FileSystemException e) {
+                writeAtomically(nextDataFile, snapshot);
+            }
+        }
+        // Journal sudah tercakup snapshot; kalau crash sebelum baris ini, replay tetap idempoten
+        Files.deleteIfExists(journalFile);
+    }
+
+    private void writeAtomically(Path target, byte[] content) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) channel.write(buffer);
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        writeCount.incrementAndGet();
+    }
+
+    private void runOnWriter(Callable<Void> task) throws IOException {
+        if (Thread.currentThread() == writerThread) {
+            try {
+                task.call();
+                return;
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+        }
+
+        try {
+            executor.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for persistence writer");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+            throw new IOException(e.getCause());
+        }
+    }
+}
\ No newline at end of file
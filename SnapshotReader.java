@@ -0,0 +1,373 @@
+package com.habittracker.service;
+
+import com.habittracker.model.*;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Membaca snapshot biner yang ditulis SnapshotWriter. Section dikumpulkan
+ * dulu lalu didekode sesuai ketergantungannya, jadi urutan di file bebas.
+ * Snapshot versi 2 juga bisa di-map (lihat map()) atau disalin ke memori
+ * off-heap (lihat readOffHeap()): bitmap habit dan kolom mood lalu dibaca
+ * langsung dari buffer itu, bukan disalin ke objek di heap.
+ */
+public class SnapshotReader {
+    // true: riwayat dibaca di tempat dari buffer (mapping atau direct buffer)
+    private final boolean inPlace;
+    private final Map<Byte, ByteBuffer> sections = new HashMap<>();
+    private int version;
+    private StringTable strings;
+    // Id aktivitas di file -> id ActivityDictionary; null jika sama persis
+    private int[] activityIds;
+
+    private SnapshotReader(boolean inPlace) {
+        this.inPlace = inPlace;
+    }
+
+    /**
+     * Mengecek apakah isi file diawali magic snapshot biner
+     */
+    public static boolean isSnapshot(byte[] bytes) {
+        return bytes.length >= 4 && ByteBuffer.wrap(bytes).getInt() == SnapshotWriter.MAGIC;
+    }
+
+    /**
+     * Mendekode snapshot; StreamCorruptedException jika magic, versi, checksum, atau isinya tidak valid
+     */
+    public static AppData read(byte[] bytes) throws IOException {
+        verify(bytes);
+        try {
+            return new SnapshotReader(false).decode(ByteBuffer.wrap(bytes, 0, bytes.length - 4));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                | NegativeArraySizeException e) {
+            throw corrupted(e);
+        }
+    }
+
+    /**
+     * Seperti read(), tetapi isi snapshot disalin ke direct ByteBuffer dan riwayat
+     * (bitmap habit, kolom mood, teks) dibaca dari sana. Riwayat tidak lagi berupa
+     * ribuan objek kecil yang harus dipindai GC; batasnya -XX:MaxDirectMemorySize.
+     * Snapshot versi 1 tidak berkolom, jadi dibaca biasa ke heap.
+     */
+    public static AppData readOffHeap(byte[] bytes) throws IOException {
+        verify(bytes);
+        if (ByteBuffer.wrap(bytes).getInt(4) < 2) return read(bytes);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length - 4);
+        direct.put(bytes, 0, bytes.length - 4).flip();
+        try {
+            return new SnapshotReader(true).decode(direct);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                | NegativeArraySizeException e) {
+            throw corrupted(e);
+        }
+    }
+
+    /**
+     * Memetakan snapshot ke memori (FileChannel.map) tanpa membaca seluruh isinya.
+     * Bitmap habit dan riwayat mood dibaca dari mapping saat dipakai, jadi memori
+     * yang terpakai sebanding dengan data yang benar-benar disentuh. Checksum
+     * tidak diperiksa karena itu berarti membaca seluruh file; snapshot versi 1
+     * dibaca biasa lewat read().
+     */
+    public static AppData map(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // Mapping tetap berlaku setelah channel ditutup
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.limit() < 12 || buffer.getInt(0) != SnapshotWriter.MAGIC) {
+            throw new StreamCorruptedException("Not a binary snapshot");
+        }
+        if (buffer.getInt(4) < 2) {
+            byte[] bytes = new byte[buffer.limit()];
+            buffer.get(0, bytes);
+            return read(bytes);
+        }
+
+        try {
+            return new SnapshotReader(true).decode(buffer.slice(0, buffer.limit() - 4));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                | NegativeArraySizeException e) {
+            throw corrupted(e);
+        }
+    }
+
+    private static void verify(byte[] bytes) throws StreamCorruptedException {
+        if (!isSnapshot(bytes) || bytes.length < 12) throw new StreamCorruptedException("Not a binary snapshot");
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - 4);
+        if ((int) crc.getValue() != ByteBuffer.wrap(bytes, bytes.length - 4, 4).getInt()) {
+            throw new StreamCorruptedException("Snapshot checksum mismatch");
+        }
+    }
+
+    private static StreamCorruptedException corrupted(RuntimeException cause) {
+        StreamCorruptedException corrupted = new StreamCorruptedException("Truncated or invalid snapshot");
+        corrupted.initCause(cause);
+        return corrupted;
+    }
+
+    private AppData decode(ByteBuffer in) throws IOException {
+        in.getInt();
+        version = in.getInt();
+        if (version > SnapshotWriter.VERSION) {
+            throw new StreamCorruptedException("Snapshot version " + version + " is newer than supported "
+                    + SnapshotWriter.VERSION);
+        }
+
+        while (in.hasRemaining()) {
+            byte tag = in.get();
+            int length = in.getInt();
+            ByteBuffer payload = in.slice(in.position(), length);
+            in.position(in.position() + length);
+            sections.putIfAbsent(tag, payload);
+        }
+
+        AppData data = new AppData();
+        strings = readStrings(section(SnapshotWriter.STRINGS));
+        readActivities(section(SnapshotWriter.ACTIVITIES));
+        ByteBuffer user = sections.get(SnapshotWriter.USER);
+        if (user != null) data.setCurrentUser(new User(string(user), string(user), string(user)));
+        data.setCustomActivities(readCustomActivities(section(SnapshotWriter.CUSTOM_ACTIVITIES)));
+        data.setHabits(readHabits(section(SnapshotWriter.HABITS)));
+        data.setMoodEntries(readMoods(section(SnapshotWriter.MOODS)));
+        return data;
+    }
+
+    private StringTable readStrings(ByteBuffer in) {
+        if (version >= 2) return new StringTable(in);
+
+        String[] values = new String[in.getInt()];
+        for (int i = 0; i < values.length; i++) {
+            byte[] bytes = new byte[in.getInt()];
+            in.get(bytes);
+            values[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return new StringTable(values);
+    }
+
+    private void readActivities(ByteBuffer in) {
+        ActivityDictionary dictionary = ActivityDictionary.getInstance();
+        int count = in.getInt();
+        int[] ids = new int[count];
+        boolean identity = true;
+        for (int i = 0; i < count; i++) {
+            ids[i] = dictionary.intern(string(in));
+            identity &= ids[i] == i;
+        }
+        activityIds = identity ? null : ids;
+    }
+
+    private Map<String, List<String>> readCustomActivities(ByteBuffer in) {
+        int owners = in.getInt();
+        Map<String, List<String>> customActivities = new HashMap<>(owners * 2);
+        for (int i = 0; i < owners; i++) {
+            String owner = string(in);
+            int count = in.getInt();
+            List<String> activities = new ArrayList<>(count);
+            for (int j = 0; j < count; j++) activities.add(string(in));
+            customActivities.put(owner, activities);
+        }
+        return customActivities;
+    }
+
+    private List<Habit> readHabits(ByteBuffer in) {
+        int count = in.getInt();
+        List<Habit> habits = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String id = string(in);
+            String name = string(in);
+            String description = string(in);
+            String category = string(in);
+            String icon = string(in);
+            String color = string(in);
+            long createdDay = in.getLong();
+            LocalDate created = createdDay != Long.MIN_VALUE ? LocalDate.ofEpochDay(createdDay) : null;
+
+            // Tanpa penyelesaian selisihnya 0, jadi bitmap berbasis tanggal dibuat seperti habit baru
+            long firstDay = (created != null ? createdDay : 0L) + in.getInt();
+            int words = in.getInt();
+            if (inPlace) {
+                habits.add(new Habit(id, name, description, category, icon, color, created, firstDay,
+                        in.slice(in.position(), words * 8).asLongBuffer()));
+            } else {
+                long[] bits = new long[words];
+                in.asLongBuffer().get(bits);
+                habits.add(new Habit(id, name, description, category, icon, color, created, firstDay, bits));
+            }
+            in.position(in.position() + words * 8);
+        }
+        return habits;
+    }
+
+    private List<MoodEntry> readMoods(ByteBuffer in) {
+        if (version >= 2) {
+            MoodColumns columns = new MoodColumns(in, strings, activityIds);
+            if (inPlace) return new ColumnarMoodList(columns);
+
+            List<MoodEntry> entries = new ArrayList<>(columns.size());
+            for (int i = 0; i < columns.size(); i++) entries.add(columns.entry(i));
+            return entries;
+        }
+
+        int count = in.getInt();
+        List<MoodEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate date = LocalDate.ofEpochDay(in.getLong());
+            LocalTime time = LocalTime.ofNanoOfDay(in.getLong());
+            MoodEntry.MoodLevel level = MoodEntry.MoodLevel.fromValue(in.get());
+            long[] bits = new long[in.get()];
+            for (int w = 0; w < bits.length; w++) bits[w] = in.getLong();
+
+            MoodEntry entry = new MoodEntry(string(in), level, LocalDateTime.of(date, time));
+            entry.setActivityBits(remap(bits, activityIds));
+            entry.setNotes(string(in));
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private static long[] remap(long[] bits, int[] activityIds) {
+        if (activityIds == null) return bits;
+        long[] mapped = new long[0];
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                int id = activityIds[(w << 6) + Long.numberOfTrailingZeros(word)];
+                if ((id >>> 6) >= mapped.length) mapped = Arrays.copyOf(mapped, (id >>> 6) + 1);
+                mapped[id >>> 6] |= 1L << id;
+                word &= word - 1;
+            }
+        }
+        return mapped;
+    }
+
+    private ByteBuffer section(byte tag) throws StreamCorruptedException {
+        ByteBuffer section = sections.get(tag);
+        if (section == null) throw new StreamCorruptedException("Snapshot is missing section " + tag);
+        return section;
+    }
+
+    private String string(ByteBuffer in) {
+        return strings.get(in.getInt());
+    }
+
+    // Tabel string; versi 2 didekode per string saat pertama diminta lalu disimpan
+    private static class StringTable {
+        private final String[] values;
+        private final ByteBuffer offsets;
+        private final ByteBuffer blob;
+
+        StringTable(String[] values) {
+            this.values = values;
+            this.offsets = null;
+            this.blob = null;
+        }
+
+        StringTable(ByteBuffer section) {
+            int count = section.getInt(0);
+            if (count < 0 || count > (section.limit() - 8) / 4) {
+                throw new IllegalArgumentException("Invalid string count " + count);
+            }
+            this.values = new String[count];
+            this.offsets = section.slice(4, (count + 1) * 4);
+            this.blob = section.slice(4 + (count + 1) * 4, section.limit() - 4 - (count + 1) * 4);
+            if (offsets.getInt(count * 4) != blob.limit()) {
+                throw new IllegalArgumentException("String table length mismatch");
+            }
+        }
+
+        synchronized String get(int ref) {
+            if (ref < 0) return null;
+            String value = values[ref];
+            if (value == null) {
+                int from = offsets.getInt(ref * 4);
+                byte[] bytes = new byte[offsets.getInt(ref * 4 + 4) - from];
+                blob.get(from, bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+                values[ref] = value;
+            }
+            return value;
+        }
+    }
+
+    // Kolom section MOODS versi 2; hanya memakai get absolut sehingga aman dibaca dari banyak thread
+    private static class MoodColumns implements ColumnarMoodList.Columns {
+        // Satu baris: epoch day (4) + waktu (8) + level (1) + word aktivitas (8) + id (4) + catatan (4)
+        private static final int ROW_BYTES = 29;
+
+        private final ByteBuffer moods;
+        private final int count;
+        private final int timesAt;
+        private final int levelsAt;
+        private final int activitiesAt;
+        private final int idsAt;
+        private final int notesAt;
+        private final Map<Integer, long[]> wideActivities = new HashMap<>();
+        private final StringTable strings;
+        private final int[] activityIds;
+
+        MoodColumns(ByteBuffer moods, StringTable strings, int[] activityIds) {
+            this.moods = moods;
+            this.strings = strings;
+            this.activityIds = activityIds;
+            this.count = moods.getInt(0);
+            if (count < 0 || count > (moods.limit() - 8) / ROW_BYTES) {
+                throw new IllegalArgumentException("Invalid mood count " + count);
+            }
+            timesAt = 4 + count * 4;
+            levelsAt = timesAt + count * 8;
+            activitiesAt = levelsAt + count;
+            idsAt = activitiesAt + count * 8;
+            notesAt = idsAt + count * 4;
+
+            int position = notesAt + count * 4;
+            int wide = moods.getInt(position);
+            position += 4;
+            for (int i = 0; i < wide; i++) {
+                int index = moods.getInt(position);
+                long[] bits = new long[moods.get(position + 4)];
+                position += 5;
+                bits[0] = moods.getLong(activitiesAt + index * 8);
+                for (int w = 1; w < bits.length; w++, position += 8) bits[w] = moods.getLong(position);
+                wideActivities.put(index, bits);
+            }
+        }
+
+        public int size() { return count; }
+        public long epochDay(int index) { return moods.getInt(4 + index * 4); }
+        public long nanoOfDay(int index) { return moods.getLong(timesAt + index * 8); }
+        public int moodValue(int index) { return moods.get(levelsAt + index); }
+        public String id(int index) { return strings.get(moods.getInt(idsAt + index * 4)); }
+        public String notes(int index) { return strings.get(moods.getInt(notesAt + index * 4)); }
+
+        public long[] activityBits(int index) {
+            long[] bits = wideActivities.isEmpty() ? null : wideActivities.get(index);
+            if (bits != null) {
+                bits = bits.clone();
+            } else {
+                long word = moods.getLong(activitiesAt + index * 8);
+                bits = word != 0 ? new long[] {word} : new long[0];
+            }
+            return remap(bits, activityIds);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,249 @@
+package com.habittracker.service;
+
+import com.habittracker.model.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Menulis AppData ke format snapshot biner (big-endian):
+ * <pre>
+ * header   : magic "HTSB" (int), versi (int)
+ * section* : tag (byte), panjang payload (int), payload
+ * trailer  : crc32 semua byte sebelumnya (int)
+ * </pre>
+ * Section STRINGS selalu pertama; section lain merujuk string lewat indeks
+ * (-1 = null). Habit berupa record tetap diikuti bitmap penyelesaian (hari
+ * pertama sebagai selisih dari tanggal dibuat, lalu word mentah). Pembaca
+ * melewati tag yang tidak dikenalnya.
+ * <p>
+ * Sejak versi 2 string punya tabel offset dan mood disimpan per kolom
+ * (epoch day, waktu, level, word aktivitas pertama, id, catatan), sehingga
+ * file yang di-map bisa dibaca per baris tanpa mendekode seluruh isinya.
+ * Mask aktivitas yang lebih dari 64 bit dicatat terpisah setelah kolom.
+ */
+public class SnapshotWriter {
+    static final int MAGIC = 0x48545342;
+    static final int VERSION = 2;
+
+    static final byte STRINGS = 1;
+    static final byte USER = 2;
+    static final byte ACTIVITIES = 3;
+    static final byte CUSTOM_ACTIVITIES = 4;
+    static final byte HABITS = 5;
+    static final byte MOODS = 6;
+
+    private final Map<String, Integer> stringIds;
+    // Offset awal tiap string di blob; elemen terakhir = panjang blob
+    private int[] stringOffsets = new int[64];
+    private final Buffer strings = new Buffer(1024);
+    private final Buffer body = new Buffer(64 * 1024);
+
+    private SnapshotWriter(int expectedStrings) {
+        this.stringIds = new HashMap<>(expectedStrings * 4 / 3 + 16);
+    }
+
+    /**
+     * Mengenkode seluruh AppData menjadi satu snapshot
+     */
+    public static byte[] write(AppData data) {
+        // Perkiraan: id + 5 teks per habit, id + catatan per entry mood
+        int expectedStrings = data.getHabits().size() * 6 + data.getMoodEntries().size() * 2;
+        return new SnapshotWriter(expectedStrings).encode(data);
+    }
+
+    private byte[] encode(AppData data) {
+        writeUser(data.getCurrentUser());
+        writeCustomActivities(data.getCustomActivities());
+        writeHabits(data.getHabits());
+        // Tabel aktivitas ditulis setelah mood agar mencakup semua id yang dipakai mask
+        writeMoods(data.getMoodEntries());
+        writeActivities();
+
+        int count = stringIds.size();
+        Buffer out = new Buffer(8 + 5 + 4 + (count + 1) * 4 + strings.size() + body.size() + 4);
+        out.putInt(MAGIC);
+        out.putInt(VERSION);
+        out.put(STRINGS);
+        out.putInt(4 + (count + 1) * 4 + strings.size());
+        out.putInt(count);
+        stringOffsets[count] = strings.size();
+        for (int i = 0; i <= count; i++) out.putInt(stringOffsets[i]);
+        out.put(strings);
+        out.put(body);
+
+        CRC32 crc = new CRC32();
+        crc.update(out.array(), 0, out.size());
+        out.putInt((int) crc.getValue());
+        return out.toByteArray();
+    }
+
+    private void writeUser(User user) {
+        if (user == null) return;
+        int start = beginSection(USER);
+        body.putInt(ref(user.getUsername()));
+        body.putInt(ref(user.getPasswordHash()));
+        body.putInt(ref(user.getEmail()));
+        endSection(start);
+    }
+
+    private void writeCustomActivities(Map<String, List<String>> customActivities) {
+        int start = beginSection(CUSTOM_ACTIVITIES);
+        body.putInt(customActivities.size());
+        for (Map.Entry<String, List<String>> owner : customActivities.entrySet()) {
+            body.putInt(ref(owner.getKey()));
+            body.putInt(owner.getValue().size());
+            for (String activity : owner.getValue()) body.putInt(ref(activity));
+        }
+        endSection(start);
+    }
+
+    private void writeHabits(List<Habit> habits) {
+        int start = beginSection(HABITS);
+        body.putInt(habits.size());
+        for (Habit habit : habits) {
+            LocalDate created = habit.getCreatedDate();
+            long createdDay = created != null ? created.toEpochDay() : Long.MIN_VALUE;
+            body.putInt(ref(habit.getId()));
+            body.putInt(ref(habit.getName()));
+            body.putInt(ref(habit.getDescription()));
+            body.putInt(ref(habit.getCategory()));
+            body.putInt(ref(habit.getIcon()));
+            body.putInt(ref(habit.getColor()));
+            body.putLong(createdDay);
+
+            // Word bitmap disalin utuh: jauh lebih cepat daripada mengenkode hari satu per satu
+            LocalDate first = habit.getFirstCompletionDate();
+            if (first == null) {
+                body.putInt(0);
+                body.putInt(0);
+                continue;
+            }
+            int span = (int) (habit.getLastCompletionDate().toEpochDay() - first.toEpochDay() + 1);
+            body.putInt((int) (first.toEpochDay() - (created != null ? createdDay : 0L)));
+            body.putLongs(habit.getCompletionBits(first, span));
+        }
+        endSection(start);
+    }
+
+    private void writeMoods(List<MoodEntry> entries) {
+        int count = entries.size();
+        Buffer days = new Buffer(count * 4 + 4);
+        Buffer times = new Buffer(count * 8 + 8);
+        Buffer levels = new Buffer(count + 1);
+        Buffer activities = new Buffer(count * 8 + 8);
+        Buffer ids = new Buffer(count * 4 + 4);
+        Buffer notes = new Buffer(count * 4 + 4);
+        // Mask lebih dari 64 aktivitas: indeks baris, jumlah word, lalu word ke-1 dst.
+        Buffer wide = new Buffer(64);
+        int wideCount = 0;
+
+        for (int i = 0; i < count; i++) {
+            // Riwayat dari file yang di-map dibaca per baris tanpa disimpan di list
+            MoodEntry entry = ColumnarMoodList.peek(entries, i);
+            long[] bits = entry.getActivityBits();
+            int words = bits.length;
+            while (words > 0 && bits[words - 1] == 0) words--;
+
+            days.putInt((int) entry.getTimestamp().toLocalDate().toEpochDay());
+            times.putLong(entry.getTimestamp().toLocalTime().toNanoOfDay());
+            levels.put((byte) entry.getMood().getValue());
+            activities.putLong(words > 0 ? bits[0] : 0L);
+            ids.putInt(ref(entry.getId()));
+            notes.putInt(ref(entry.getNotes()));
+            if (words > 1) {
+                wide.putInt(i);
+                wide.put((byte) words);
+                for (int w = 1; w < words; w++) wide.putLong(bits[w]);
+                wideCount++;
+            }
+        }
+
+        int start = beginSection(MOODS);
+        body.putInt(count);
+        body.put(days);
+        body.put(times);
+        body.put(levels);
+        body.put(activities);
+        body.put(ids);
+        body.put(notes);
+        body.putInt(wideCount);
+        body.put(wide);
+        endSection(start);
+    }
+
+    private void writeActivities() {
+        // Id di file = id ActivityDictionary saat menulis, jadi mask bisa disalin apa adanya
+        ActivityDictionary dictionary = ActivityDictionary.getInstance();
+        int start = beginSection(ACTIVITIES);
+        int count = dictionary.size();
+        body.putInt(count);
+        for (int id = 0; id < count; id++) body.putInt(ref(dictionary.nameOf(id)));
+        endSection(start);
+    }
+
+    private int beginSection(byte tag) {
+        body.put(tag);
+        body.putInt(0);
+        return body.size();
+    }
+
+    private void endSection(int start) {
+        body.putInt(start - 4, body.size() - start);
+    }
+
+    private int ref(String value) {
+        if (value == null) return -1;
+        Integer id = stringIds.get(value);
+        if (id != null) return id;
+
+        int newId = stringIds.size();
+        stringIds.put(value, newId);
+        if (newId + 1 >= stringOffsets.length) stringOffsets = Arrays.copyOf(stringOffsets, stringOffsets.length * 2);
+        stringOffsets[newId] = strings.size();
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        strings.put(bytes, bytes.length);
+        return newId;
+    }
+
+    // Array byte yang tumbuh otomatis; ByteBuffer hanya dipakai untuk menulis angka big-endian
+    private static class Buffer {
+        private ByteBuffer buffer;
+
+        Buffer(int capacity) {
+            buffer = ByteBuffer.allocate(capacity);
+        }
+
+        int size() { return buffer.position(); }
+        byte[] array() { return buffer.array(); }
+        byte[] toByteArray() { return Arrays.copyOf(buffer.array(), buffer.position()); }
+
+        void put(byte value) { ensure(1).put(value); }
+        void putInt(int value) { ensure(4).putInt(value); }
+        void putInt(int index, int value) { buffer.putInt(index, value); }
+        void putLong(long value) { ensure(8).putLong(value); }
+        void put(byte[] bytes, int length) { ensure(length).put(bytes, 0, length); }
+        void put(Buffer other) { put(other.array(), other.size()); }
+
+        void putLongs(long[] values) {
+            putInt(values.length);
+            ensure(values.length * 8).asLongBuffer().put(values);
+            buffer.position(buffer.position() + values.length * 8);
+        }
+
+        private ByteBuffer ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+                ByteBuffer grown = ByteBuffer.allocate(capacity);
+                grown.put(buffer.array(), 0, buffer.position());
+                buffer = grown;
+            }
+            return buffer;
+        }
+    }
+}
\ No newline at end of file
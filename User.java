@@ -3,6 +3,9 @@ package com.habittracker.model;
 import java.io.Serializable;
 
 public class User implements Serializable {
+    // Sama dengan UID hasil hitungan versi lama agar user.ser yang ada tetap terbaca
+    private static final long serialVersionUID = 3954718774485203831L;
+
     private String username;
     private String passwordHash;
     private String email;
@@ -0,0 +1,81 @@
+package com.habittracker.benchmarks;
+
+import com.habittracker.model.AppData;
+import com.habittracker.model.Habit;
+import com.habittracker.model.MoodEntry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Data uji deterministik untuk benchmark: habit dengan riwayat penyelesaian
+ * bergaya streak dan satu entry mood untuk sebagian besar hari.
+ */
+final class BenchmarkData {
+    static final long SEED = 42L;
+
+    private static final String[] CATEGORIES = {"Wellness", "Fitness", "Productivity", "Learning",
+            "Health", "Creativity", "Social", "Finance"};
+    private static final String[] ACTIVITIES = {"Exercise", "Read", "Meditate", "Work",
+            "Socialize", "Gaming", "Cooking", "Walk"};
+
+    private BenchmarkData() {
+    }
+
+    static AppData generate(int habitCount, int years) {
+        Random random = new Random(SEED);
+        LocalDate today = LocalDate.now();
+        int days = years * 365;
+        AppData data = new AppData();
+
+        LocalDate firstDay = today.minusDays(days - 1);
+        for (int i = 0; i < habitCount; i++) {
+            // Dibuat di awal riwayat, supaya perhitungan yang dibatasi umur habit melihat semua hari
+            Habit habit = new Habit("habit-" + i, "Habit " + i, "Benchmark habit " + i,
+                    CATEGORIES[i % CATEGORIES.length], "🏆", "#4CAF50", firstDay);
+            // Rantai Markov sederhana: hari selesai cenderung diikuti hari selesai
+            boolean done = random.nextBoolean();
+            for (int day = days - 1; day >= 0; day--) {
+                done = random.nextDouble() < (done ? 0.85 : 0.4);
+                if (done) habit.addCompletion(today.minusDays(day));
+            }
+            data.addHabit(habit);
+        }
+
+        MoodEntry.MoodLevel[] levels = MoodEntry.MoodLevel.values();
+        for (int day = days - 1; day >= 0; day--) {
+            if (random.nextInt(5) == 0) continue;
+            MoodEntry entry = new MoodEntry(levels[random.nextInt(levels.length)],
+                    today.minusDays(day).atTime(20, 0));
+            int activityCount = random.nextInt(4);
+            for (int a = 0; a < activityCount; a++) {
+                entry.addActivity(ACTIVITIES[random.nextInt(ACTIVITIES.length)]);
+            }
+            data.addMoodEntry(entry);
+        }
+        return data;
+    }
+
+    /**
+     * Folder data sementara. Harus dipanggil sebelum DataService pertama kali dipakai
+     * di JVM ini, karena lokasi file dibaca saat kelas dimuat.
+     */
+    static Path useTemporaryDataDir() throws IOException {
+        Path dir = Files.createTempDirectory("habittracker-bench");
+        System.setProperty("habittracker.dataDir", dir.toString());
+        return dir;
+    }
+
+    static void deleteRecursively(Path dir) throws IOException {
+        if (dir == null || !Files.exists(dir)) return;
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.habittracker.benchmarks;
+
+import com.habittracker.model.Habit;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Operasi per habit, dijumlahkan untuk seluruh habit supaya hasilnya tidak dibuang JIT
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HabitBenchmark {
+    @Param({"10", "100", "1000"})
+    public int habitCount;
+
+    @Param({"1", "5"})
+    public int years;
+
+    private List<Habit> habits;
+    private LocalDate today;
+    private LocalDate monthAgo;
+    private LocalDate historyStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        habits = BenchmarkData.generate(habitCount, years).getHabits();
+        today = LocalDate.now();
+        monthAgo = today.minusDays(29);
+        historyStart = today.minusDays(years * 365L);
+    }
+
+    @Benchmark
+    public int currentStreak() {
+        int total = 0;
+        for (Habit habit : habits) total += habit.getCurrentStreak();
+        return total;
+    }
+
+    @Benchmark
+    public int bestStreak() {
+        int total = 0;
+        for (Habit habit : habits) total += habit.getBestStreak();
+        return total;
+    }
+
+    @Benchmark
+    public int completionCountLast30Days() {
+        int total = 0;
+        for (Habit habit : habits) total += habit.getCompletionCountBetween(monthAgo, today);
+        return total;
+    }
+
+    @Benchmark
+    public int completionCountFullHistory() {
+        int total = 0;
+        for (Habit habit : habits) total += habit.getCompletionCountBetween(historyStart, today);
+        return total;
+    }
+}
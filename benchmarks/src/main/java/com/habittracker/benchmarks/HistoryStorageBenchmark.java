@@ -0,0 +1,93 @@
+package com.habittracker.benchmarks;
+
+import com.habittracker.model.AppData;
+import com.habittracker.model.Habit;
+import com.habittracker.service.ActivityAnalyticsService;
+import com.habittracker.service.MoodSeries;
+import com.habittracker.service.SnapshotReader;
+import com.habittracker.service.SnapshotWriter;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Riwayat di heap (SnapshotReader.read) vs off-heap (readOffHeap) untuk banyak
+ * tenant sekaligus: biaya load, query di atas riwayat, dan full GC selama
+ * semua tenant masih dipegang
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HistoryStorageBenchmark {
+    @Param({"heap", "offheap"})
+    public String storage;
+
+    @Param({"100", "1000"})
+    public int tenants;
+
+    @Param({"10"})
+    public int habitCount;
+
+    @Param({"3"})
+    public int years;
+
+    private byte[] snapshot;
+    private List<AppData> loaded;
+    private LocalDate today;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        snapshot = SnapshotWriter.write(BenchmarkData.generate(habitCount, years));
+        today = LocalDate.now();
+        loaded = new ArrayList<>(tenants);
+        for (int i = 0; i < tenants; i++) loaded.add(load());
+    }
+
+    @Benchmark
+    public AppData load() throws IOException {
+        return "offheap".equals(storage) ? SnapshotReader.readOffHeap(snapshot) : SnapshotReader.read(snapshot);
+    }
+
+    /**
+     * Yang dihitung MoodService saat dibuat, untuk setiap tenant
+     */
+    @Benchmark
+    public int moodAggregates() {
+        int total = 0;
+        for (AppData data : loaded) {
+            MoodSeries series = new MoodSeries();
+            series.rebuild(data.getMoodEntries());
+            ActivityAnalyticsService analytics = new ActivityAnalyticsService();
+            analytics.rebuild(data.getMoodEntries());
+            total += series.size() + analytics.getImpacts().size();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int habitQueries() {
+        LocalDate monthAgo = today.minusDays(29);
+        int total = 0;
+        for (AppData data : loaded) {
+            for (Habit habit : data.getHabits()) {
+                total += habit.getCurrentStreak() + habit.getCompletionCountBetween(monthAgo, today);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Full GC dengan semua tenant hidup; waktunya sebanding dengan objek yang harus dipindai
+     */
+    @Benchmark
+    public int fullGc() {
+        System.gc();
+        return loaded.size();
+    }
+}
@@ -0,0 +1,53 @@
+package com.habittracker.benchmarks;
+
+import com.habittracker.model.AppData;
+import com.habittracker.service.DataService;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Snapshot penuh ke disk (tulis atomik + fsync) dan load snapshot + journal
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersistenceBenchmark {
+    @Param({"10", "100", "1000"})
+    public int habitCount;
+
+    @Param({"1", "5"})
+    public int years;
+
+    private Path dataDir;
+    private DataService dataService;
+    private AppData data;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataDir = BenchmarkData.useTemporaryDataDir();
+        dataService = new DataService();
+        data = BenchmarkData.generate(habitCount, years);
+        dataService.saveData(data);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        dataService.flush();
+        BenchmarkData.deleteRecursively(dataDir);
+    }
+
+    @Benchmark
+    public AppData saveData() throws Exception {
+        dataService.saveData(data);
+        return data;
+    }
+
+    @Benchmark
+    public AppData loadData() {
+        return dataService.loadData();
+    }
+}
@@ -0,0 +1,66 @@
+package com.habittracker.benchmarks;
+
+import com.habittracker.model.MoodEntry;
+import com.habittracker.service.DataService;
+import com.habittracker.service.HabitService;
+import com.habittracker.service.MoodService;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Query statistik service di atas data yang dimuat lewat AppRepository
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceBenchmark {
+    @Param({"10", "100", "1000"})
+    public int habitCount;
+
+    @Param({"1", "5"})
+    public int years;
+
+    private Path dataDir;
+    private HabitService habitService;
+    private MoodService moodService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataDir = BenchmarkData.useTemporaryDataDir();
+        new DataService().saveData(BenchmarkData.generate(habitCount, years));
+        habitService = new HabitService();
+        moodService = new MoodService();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        habitService.shutdown();
+        BenchmarkData.deleteRecursively(dataDir);
+    }
+
+    @Benchmark
+    public double weeklyCompletionRate() {
+        return habitService.getWeeklyCompletionRate();
+    }
+
+    @Benchmark
+    public Map<LocalDate, Integer> completionTrend() {
+        return habitService.getCompletionTrend();
+    }
+
+    @Benchmark
+    public Map<MoodEntry.MoodLevel, Integer> moodDistribution() {
+        return moodService.getMoodDistribution();
+    }
+
+    @Benchmark
+    public double averageMoodLast7Days() {
+        return moodService.getAverageMoodLast7Days();
+    }
+}
@@ -0,0 +1,62 @@
+package com.habittracker.benchmarks;
+
+import com.habittracker.model.AppData;
+import com.habittracker.service.SnapshotReader;
+import com.habittracker.service.SnapshotWriter;
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Encode/decode snapshot di memori (tanpa disk): Java serialization lama vs format biner
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SnapshotBenchmark {
+    @Param({"10", "100", "1000"})
+    public int habitCount;
+
+    @Param({"1", "5"})
+    public int years;
+
+    private AppData data;
+    private byte[] serialized;
+    private byte[] binary;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        data = BenchmarkData.generate(habitCount, years);
+        serialized = javaSerializationWrite();
+        binary = binaryWrite();
+    }
+
+    @Benchmark
+    public byte[] javaSerializationWrite() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+            out.writeObject(data);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public Object javaSerializationRead() throws Exception {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return in.readObject();
+        }
+    }
+
+    @Benchmark
+    public byte[] binaryWrite() {
+        return SnapshotWriter.write(data);
+    }
+
+    @Benchmark
+    public AppData binaryRead() throws IOException {
+        return SnapshotReader.read(binary);
+    }
+}
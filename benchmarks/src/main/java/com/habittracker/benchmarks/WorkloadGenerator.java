@@ -0,0 +1,318 @@
+package com.habittracker.benchmarks;
+
+import com.habittracker.model.ActivityDictionary;
+import com.habittracker.model.AppData;
+import com.habittracker.model.Habit;
+import com.habittracker.model.MoodEntry;
+import com.habittracker.model.User;
+import com.habittracker.service.SnapshotWriter;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Pembangkit dataset sintetis untuk uji beban, soak, dan benchmark. Hasilnya
+ * deterministik untuk seed, spec, dan tanggal akhir yang sama (termasuk id).
+ * Setiap user mendapat folder data sendiri (appdata.bin + user.ser) yang bisa
+ * langsung dibuka aplikasi lewat -Dhabittracker.dataDir.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.habittracker.benchmarks.WorkloadGenerator \
+ *      --out=/tmp/load --users=100 --habits=50 --years=10 --moodPerDay=2
+ * </pre>
+ */
+public class WorkloadGenerator {
+    // Password semua user hasil generator
+    public static final String PASSWORD = "password123";
+
+    private static final String[] HABIT_NAMES = {"Morning run", "Read 20 pages", "Meditate", "Drink 2L water",
+            "Journal", "Stretch", "No sugar", "Practice guitar", "Study Spanish", "Walk 10k steps",
+            "Sleep before 23:00", "Budget review", "Call family", "Cold shower", "Write 500 words", "Yoga"};
+    private static final String[] ICONS = {"🏃", "📚", "🧘", "💧", "✍️", "🤸", "🍎", "🎸", "🌍", "🚶",
+            "😴", "💰", "📞", "🚿", "📝", "🏆"};
+    private static final String[] COLORS = {"#4CAF50", "#2196F3", "#9C27B0", "#FF9800", "#F44336",
+            "#009688", "#3F51B5", "#795548"};
+    private static final String[] NOTE_OPENINGS = {"Today was", "Felt", "Pretty", "Honestly a bit",
+            "Overall", "Mostly"};
+    private static final String[] NOTE_MOODS = {"calm", "productive", "tired", "stressed", "happy",
+            "restless", "focused", "slow", "energetic", "anxious"};
+    private static final String[] NOTE_DETAILS = {"slept well", "long day at work", "met a friend",
+            "skipped lunch", "good workout", "rainy all day", "finished a book", "too much coffee",
+            "quiet evening", "deadline tomorrow"};
+
+    private final WorkloadSpec spec;
+
+    public WorkloadGenerator(WorkloadSpec spec) {
+        this.spec = spec;
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<String> options = new ArrayList<>();
+        Path out = Paths.get("workload");
+        for (String arg : args) {
+            if (arg.startsWith("--out=")) out = Paths.get(arg.substring("--out=".length()));
+            else options.add(arg);
+        }
+        WorkloadSpec spec = WorkloadSpec.parse(options.toArray(new String[0]));
+
+        long start = System.nanoTime();
+        Summary summary = new WorkloadGenerator(spec).writeAll(out);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("%d user(s), %d habits, %d completions, %d mood entries, %.1f MB in %d ms -> %s%n",
+                spec.getUsers(), summary.getHabits(), summary.getCompletions(), summary.getMoodEntries(),
+                summary.getBytes() / (1024.0 * 1024.0), millis, out.toAbsolutePath());
+    }
+
+    /**
+     * Membangkitkan data satu user (index mulai dari 0) di memori
+     */
+    public AppData generate(int userIndex) {
+        SplittableRandom random = new SplittableRandom(spec.getSeed() * 1_000_003L + userIndex);
+        String username = username(userIndex);
+        AppData data = new AppData();
+        data.setCurrentUser(new User(username, hashPassword(PASSWORD), username + "@example.com"));
+
+        List<String> activities = new ArrayList<>(ActivityDictionary.getInstance().getDefaultActivities());
+        for (int i = 1; i <= spec.getCustomActivities(); i++) {
+            String activity = "Custom " + i;
+            data.addCustomActivity(username, activity);
+            activities.add(activity);
+        }
+
+        long endDay = spec.getEndDate().toEpochDay();
+        long startDay = endDay - (long) spec.getYears() * 365 + 1;
+        int habitCount = spec.getHabitCount();
+        Habit[] habits = new Habit[habitCount];
+        HabitProfile[] profiles = new HabitProfile[habitCount];
+        for (int i = 0; i < habitCount; i++) {
+            profiles[i] = newProfile(random, i, startDay, endDay);
+            habits[i] = newHabit(random, i, LocalDate.ofEpochDay(profiles[i].createdDay));
+        }
+        // Urutan list mengikuti tanggal dibuat, seperti jika habit ditambahkan lewat aplikasi
+        Integer[] order = new Integer[habitCount];
+        for (int i = 0; i < habitCount; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Long.compare(profiles[a].createdDay, profiles[b].createdDay));
+        for (int i : order) data.addHabit(habits[i]);
+
+        // Per hari: tentukan penyelesaian semua habit dulu, lalu mood hari itu ikut dipengaruhi
+        double wellbeing = 0.0;
+        for (long day = startDay; day <= endDay; day++) {
+            LocalDate date = LocalDate.ofEpochDay(day);
+            double effect = 0.0;
+            int active = 0;
+            for (int i = 0; i < habitCount; i++) {
+                HabitProfile profile = profiles[i];
+                if (day < profile.createdDay) continue;
+                active++;
+                profile.done = random.nextDouble() < completionProbability(profile, day);
+                if (profile.done) {
+                    habits[i].addCompletion(date);
+                    effect += profile.moodEffect;
+                }
+            }
+
+            wellbeing = 0.8 * wellbeing + random.nextGaussian() * 0.4;
+            double base = 3.0 + wellbeing + (active > 0 ? effect / Math.sqrt(active) : 0.0);
+            int entries = entriesForDay(random);
+            for (int e = 0; e < entries; e++) {
+                data.addMoodEntry(newMoodEntry(random, date, e, entries, base, activities));
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Menulis semua user ke folder out (langsung ke out jika hanya satu user,
+     * selain itu ke out/user-0001 dst.). User dibangkitkan paralel.
+     */
+    public Summary writeAll(Path out) throws IOException {
+        Files.createDirectories(out);
+        Summary summary = new Summary();
+        try {
+            IntStream.range(0, spec.getUsers()).parallel().forEach(user -> {
+                Path dir = spec.getUsers() == 1 ? out : out.resolve(String.format("user-%04d", user + 1));
+                try {
+                    AppData data = generate(user);
+                    summary.bytes.addAndGet(writeDataset(data, dir));
+                    summary.habits.addAndGet(data.getHabits().size());
+                    summary.moodEntries.addAndGet(data.getMoodEntries().size());
+                    for (Habit habit : data.getHabits()) summary.completions.addAndGet(habit.getTotalCompletions());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return summary;
+    }
+
+    /**
+     * Menulis appdata.bin (snapshot biner) dan user.ser ke dir dalam format DataService,
+     * tanpa journal. Mengembalikan jumlah byte yang ditulis.
+     */
+    public static long writeDataset(AppData data, Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Files.deleteIfExists(dir.resolve("appdata.journal"));
+        Files.deleteIfExists(dir.resolve("appdata.ser"));
+
+        ByteArrayOutputStream user = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(user)) {
+            out.writeObject(data.getCurrentUser());
+        }
+        return writeFile(SnapshotWriter.write(data), dir.resolve("appdata.bin"))
+                + writeFile(user.toByteArray(), dir.resolve("user.ser"));
+    }
+
+    private static long writeFile(byte[] content, Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, content);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return content.length;
+    }
+
+    private HabitProfile newProfile(SplittableRandom random, int index, long startDay, long endDay) {
+        HabitProfile profile = new HabitProfile();
+        WorkloadSpec.Pattern[] patterns = spec.getPatterns();
+        profile.pattern = patterns[index % patterns.length];
+        profile.rate = clamp(spec.getCompletionRate() + random.nextGaussian() * 0.15, 0.05, 0.95);
+        profile.weekday = random.nextInt(7);
+        profile.moodEffect = random.nextDouble(-0.3, 0.8);
+        boolean late = random.nextDouble() < spec.getLateHabitShare();
+        profile.createdDay = late ? startDay + random.nextLong(endDay - startDay + 1) : startDay;
+        return profile;
+    }
+
+    private Habit newHabit(SplittableRandom random, int index, LocalDate createdDate) {
+        String name = HABIT_NAMES[index % HABIT_NAMES.length];
+        if (index >= HABIT_NAMES.length) name += " " + (index / HABIT_NAMES.length + 1);
+        String[] categories = spec.getCategories();
+        return new Habit(randomId(random), name, "Generated habit " + (index + 1),
+                categories[random.nextInt(categories.length)],
+                ICONS[index % ICONS.length], COLORS[random.nextInt(COLORS.length)], createdDate);
+    }
+
+    private double completionProbability(HabitProfile profile, long day) {
+        double rate = profile.rate;
+        // Epoch day 0 (1970-01-01) adalah Kamis; 0 = Senin
+        int weekday = (int) Math.floorMod(day + 3, 7);
+        switch (profile.pattern) {
+            case STREAKY: {
+                // Peluang masuk streak dipilih agar rata-rata jangka panjang tetap = rate
+                double stay = spec.getStreakiness();
+                return profile.done ? stay : Math.min(rate * (1 - stay) / (1 - rate), 1.0);
+            }
+            case WEEKDAYS:
+                return weekday < 5 ? Math.min(rate + 0.2, 0.98) : 0.1;
+            case WEEKLY:
+                return weekday == profile.weekday ? Math.min(rate + 0.3, 0.98) : 0.03;
+            case FADING: {
+                double age = day - profile.createdDay;
+                return 0.05 + (rate + 0.3) * Math.exp(-age / 45.0);
+            }
+            case SPORADIC:
+            default:
+                return rate * 0.6;
+        }
+    }
+
+    private int entriesForDay(SplittableRandom random) {
+        double perDay = spec.getMoodEntriesPerDay();
+        int entries = (int) perDay;
+        if (random.nextDouble() < perDay - entries) entries++;
+        return entries;
+    }
+
+    private MoodEntry newMoodEntry(SplittableRandom random, LocalDate date, int index, int entries,
+                                   double base, List<String> activities) {
+        int value = (int) Math.round(clamp(base + random.nextGaussian() * 0.7, 1, 5));
+        // Entry tersebar antara jam 07:00 dan 23:00
+        int minutes = 7 * 60 + (16 * 60 * index + random.nextInt(16 * 60)) / entries;
+        MoodEntry entry = new MoodEntry(randomId(random), levelOf(value),
+                date.atTime(minutes / 60, minutes % 60));
+
+        int activityCount = random.nextInt(spec.getMaxActivitiesPerEntry() + 1);
+        for (int a = 0; a < activityCount; a++) {
+            entry.addActivity(activities.get(random.nextInt(activities.size())));
+        }
+        if (random.nextDouble() < spec.getNoteProbability()) {
+            entry.setNotes(NOTE_OPENINGS[random.nextInt(NOTE_OPENINGS.length)] + " "
+                    + NOTE_MOODS[random.nextInt(NOTE_MOODS.length)] + ", "
+                    + NOTE_DETAILS[random.nextInt(NOTE_DETAILS.length)] + ".");
+        }
+        return entry;
+    }
+
+    private static MoodEntry.MoodLevel levelOf(int value) {
+        for (MoodEntry.MoodLevel level : MoodEntry.MoodLevel.values()) {
+            if (level.getValue() == value) return level;
+        }
+        return MoodEntry.MoodLevel.MEH;
+    }
+
+    private String username(int userIndex) {
+        return spec.getUsers() == 1 ? spec.getUsernamePrefix()
+                : String.format("%s-%04d", spec.getUsernamePrefix(), userIndex + 1);
+    }
+
+    // UUID versi 4 dari generator ber-seed; UUID.randomUUID() tidak bisa diulang dan lebih lambat
+    private static String randomId(SplittableRandom random) {
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(most, least).toString();
+    }
+
+    // Sama dengan AuthService: SHA-256 dalam hex
+    private static String hashPassword(String password) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(password.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : hash) hex.append(String.format("%02x", b));
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * Jumlah total yang dibangkitkan oleh writeAll
+     */
+    public static class Summary {
+        private final AtomicLong habits = new AtomicLong();
+        private final AtomicLong completions = new AtomicLong();
+        private final AtomicLong moodEntries = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+
+        public long getHabits() { return habits.get(); }
+        public long getCompletions() { return completions.get(); }
+        public long getMoodEntries() { return moodEntries.get(); }
+        public long getBytes() { return bytes.get(); }
+    }
+
+    // Parameter acak satu habit plus status hari sebelumnya
+    private static class HabitProfile {
+        WorkloadSpec.Pattern pattern;
+        double rate;
+        int weekday;
+        double moodEffect;
+        long createdDay;
+        boolean done;
+    }
+}
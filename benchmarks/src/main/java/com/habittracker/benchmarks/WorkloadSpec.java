@@ -0,0 +1,122 @@
+package com.habittracker.benchmarks;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Parameter WorkloadGenerator. Nilai default menghasilkan satu user dengan
+ * 20 habit dan 3 tahun riwayat; semua bisa diubah lewat setter atau argumen
+ * baris perintah berbentuk --nama=nilai.
+ */
+public class WorkloadSpec {
+    /**
+     * Pola penyelesaian habit
+     */
+    public enum Pattern {
+        /** Rantai Markov: hari selesai cenderung diikuti hari selesai */
+        STREAKY,
+        /** Senin-Jumat, jarang di akhir pekan */
+        WEEKDAYS,
+        /** Satu hari tetap per minggu */
+        WEEKLY,
+        /** Acak tanpa keterkaitan antar hari */
+        SPORADIC,
+        /** Rajin di awal lalu menurun (resolusi tahun baru) */
+        FADING
+    }
+
+    private long seed = 42L;
+    private int users = 1;
+    private int habitCount = 20;
+    private int years = 3;
+    private LocalDate endDate = LocalDate.now();
+    private String[] categories = {"Wellness", "Fitness", "Productivity", "Learning",
+            "Health", "Creativity", "Social", "Finance"};
+    private Pattern[] patterns = Pattern.values();
+    private double completionRate = 0.6;
+    private double streakiness = 0.85;
+    private double lateHabitShare = 0.3;
+    private double moodEntriesPerDay = 1.0;
+    private int maxActivitiesPerEntry = 3;
+    private int customActivities = 4;
+    private double noteProbability = 0.4;
+    private String usernamePrefix = "loadtest";
+
+    /**
+     * Membaca argumen --nama=nilai; nama yang tidak dikenal membuat IllegalArgumentException
+     */
+    public static WorkloadSpec parse(String[] args) {
+        WorkloadSpec spec = new WorkloadSpec();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "seed": spec.setSeed(Long.parseLong(value)); break;
+                case "users": spec.setUsers(Integer.parseInt(value)); break;
+                case "habits": spec.setHabitCount(Integer.parseInt(value)); break;
+                case "years": spec.setYears(Integer.parseInt(value)); break;
+                case "end": spec.setEndDate(LocalDate.parse(value)); break;
+                case "categories": spec.setCategories(value.split(",")); break;
+                case "patterns": spec.setPatterns(parsePatterns(value)); break;
+                case "completionRate": spec.setCompletionRate(Double.parseDouble(value)); break;
+                case "streakiness": spec.setStreakiness(Double.parseDouble(value)); break;
+                case "lateHabitShare": spec.setLateHabitShare(Double.parseDouble(value)); break;
+                case "moodPerDay": spec.setMoodEntriesPerDay(Double.parseDouble(value)); break;
+                case "maxActivities": spec.setMaxActivitiesPerEntry(Integer.parseInt(value)); break;
+                case "customActivities": spec.setCustomActivities(Integer.parseInt(value)); break;
+                case "noteProbability": spec.setNoteProbability(Double.parseDouble(value)); break;
+                case "user": spec.setUsernamePrefix(value); break;
+                default: throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+        }
+        return spec;
+    }
+
+    private static Pattern[] parsePatterns(String value) {
+        return Arrays.stream(value.split(","))
+                .map(name -> Pattern.valueOf(name.trim().toUpperCase()))
+                .toArray(Pattern[]::new);
+    }
+
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+    /** Jumlah dataset (satu folder data per user) */
+    public int getUsers() { return users; }
+    public void setUsers(int users) { this.users = users; }
+    public int getHabitCount() { return habitCount; }
+    public void setHabitCount(int habitCount) { this.habitCount = habitCount; }
+    public int getYears() { return years; }
+    public void setYears(int years) { this.years = years; }
+    /** Hari terakhir riwayat; tetapkan agar hasilnya sama persis di hari lain */
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+    public String[] getCategories() { return categories; }
+    public void setCategories(String[] categories) { this.categories = categories; }
+    /** Pola yang dibagikan bergiliran ke habit */
+    public Pattern[] getPatterns() { return patterns; }
+    public void setPatterns(Pattern[] patterns) { this.patterns = patterns; }
+    /** Rata-rata peluang habit diselesaikan per hari (0-1) */
+    public double getCompletionRate() { return completionRate; }
+    public void setCompletionRate(double completionRate) { this.completionRate = completionRate; }
+    /** Peluang streak STREAKY berlanjut ke hari berikutnya (0-1) */
+    public double getStreakiness() { return streakiness; }
+    public void setStreakiness(double streakiness) { this.streakiness = streakiness; }
+    /** Bagian habit yang dibuat di tengah periode, bukan di hari pertama */
+    public double getLateHabitShare() { return lateHabitShare; }
+    public void setLateHabitShare(double lateHabitShare) { this.lateHabitShare = lateHabitShare; }
+    /** Rata-rata entry mood per hari; 0.8 berarti sekitar 80% hari punya satu entry */
+    public double getMoodEntriesPerDay() { return moodEntriesPerDay; }
+    public void setMoodEntriesPerDay(double moodEntriesPerDay) { this.moodEntriesPerDay = moodEntriesPerDay; }
+    public int getMaxActivitiesPerEntry() { return maxActivitiesPerEntry; }
+    public void setMaxActivitiesPerEntry(int maxActivitiesPerEntry) { this.maxActivitiesPerEntry = maxActivitiesPerEntry; }
+    /** Jumlah aktivitas custom per user, di luar aktivitas bawaan */
+    public int getCustomActivities() { return customActivities; }
+    public void setCustomActivities(int customActivities) { this.customActivities = customActivities; }
+    public double getNoteProbability() { return noteProbability; }
+    public void setNoteProbability(double noteProbability) { this.noteProbability = noteProbability; }
+    public String getUsernamePrefix() { return usernamePrefix; }
+    public void setUsernamePrefix(String usernamePrefix) { this.usernamePrefix = usernamePrefix; }
+}